@@ -4,14 +4,61 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Otomatisasi pencarian parameter terbaik untuk Mosaic Puzzle 6x6.
  * Didesain khusus untuk dijalankan di macOS terminal.
+ *
+ * Mode:
+ * - default: grid search penuh, setiap kombinasi dijalankan sampai maxGen secara berurutan
+ * - --halving: successive halving paralel (lihat runSuccessiveHalving)
  */
 public class ParameterTuner {
 
+    // Definisi Parameter yang akan diuji (Grid Search)
+    // Kita gunakan nilai yang lebih tinggi karena 6x6 tergolong sulit
+    private static final int[] POP_SIZES = {600, 1000, 1500};
+    private static final double[] MUT_RATES = {0.12, 0.15, 0.20}; // Initial mutation rate
+    private static final int[] ELITISM_VALUES = {10, 30, 60};     // Jumlah elit yang dijaga
+    private static final int MAX_GEN = 1000;                      // Batas generasi lebih panjang
+    private static final long SEED = 50000L;
+
+    // Strategi seleksi (--selection roulette | tournament[:k] | truncation[:fraksi])
+    private static String selectionMode = "roulette";
+
     public static void main(String[] args) {
+        // Opsi successive halving
+        boolean halving = false;
+        int seeds = 3;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int eta = 2;
+        int minGen = 100;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--halving")) {
+                halving = true;
+            } else if (args[i].equals("--seeds") && i + 1 < args.length) {
+                seeds = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--threads") && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--eta") && i + 1 < args.length) {
+                eta = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--min-gen") && i + 1 < args.length) {
+                minGen = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--selection") && i + 1 < args.length) {
+                selectionMode = args[++i];
+                try {
+                    MultiSizeExperimentRunner.createSelection(selectionMode);  // validasi nama lebih awal
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Unknown selection: " + selectionMode
+                        + " (use roulette, tournament[:k] or truncation[:fraction])");
+                    return;
+                }
+            }
+        }
+
         // 1. Identifikasi File Puzzle (Menyesuaikan dengan struktur folder Anda)
         String fileName = "puzzle_7x7_medium.txt";
         File puzzleFile = new File("examples/" + fileName);
@@ -28,13 +75,11 @@ public class ParameterTuner {
             return;
         }
 
-        // 2. Definisi Parameter yang akan diuji (Grid Search)
-        // Kita gunakan nilai yang lebih tinggi karena 6x6 tergolong sulit
-        int[] popSizes = {600, 1000, 1500};
-        double[] mutRates = {0.12, 0.15, 0.20}; // Initial mutation rate
-        int[] elitismValues = {10, 30, 60};     // Jumlah elit yang dijaga
-        int maxGen = 1000;                      // Batas generasi lebih panjang
-        long seed = 50000L;
+        int[] popSizes = POP_SIZES;
+        double[] mutRates = MUT_RATES;
+        int[] elitismValues = ELITISM_VALUES;
+        int maxGen = MAX_GEN;
+        long seed = SEED;
 
         List<TuningResult> results = new ArrayList<>();
 
@@ -42,11 +87,17 @@ public class ParameterTuner {
         System.out.println("   AUTOMATED PARAMETER TUNING - MOSAIC 6x6");
         System.out.println("=================================================");
         System.out.println("Target File: " + puzzleFile.getPath());
+        System.out.println("Selection: " + selectionMode);
         System.out.println("Total Kombinasi: " + (popSizes.length * mutRates.length * elitismValues.length));
 
         try {
             Puzzle puzzle = MultiSizeExperimentRunner.loadPuzzleFromFile(puzzleFile.getPath());
 
+            if (halving) {
+                runSuccessiveHalving(puzzle, seeds, threads, eta, minGen);
+                return;
+            }
+
             for (int pop : popSizes) {
                 for (double mut : mutRates) {
                     for (int elit : elitismValues) {
@@ -54,7 +105,7 @@ public class ParameterTuner {
                         System.out.printf("Testing -> Pop: %d, Mut: %.2f, Elit: %d | ", pop, mut, elit);
                         
                         // Inisialisasi Strategi
-                        SelectionStrategy selection = new RouletteWheelSelection();
+                        SelectionStrategy selection = MultiSizeExperimentRunner.createSelection(selectionMode);
                         CrossoverStrategy crossover = new FitnessGuidedUniformCrossover(0.40); // Bias ditingkatkan ke 0.4
                         MutationStrategy mutation = new AdaptiveMutation(mut, 0.01, maxGen);
 
@@ -110,24 +161,207 @@ public class ParameterTuner {
     }
 
     private static void saveToCSV(List<TuningResult> results) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter("tuning_results2.csv"))) {
-            writer.println("PopSize,MutationRate,Elitism,Solved,Generations,TimeMS,BestFitness");
+        saveToCSV(results, "tuning_results2.csv", false);
+    }
+
+    // Schema sama dengan grid search; withBudget menambah kolom Budget (total generasi yang dipakai)
+    private static void saveToCSV(List<TuningResult> results, String fileName, boolean withBudget) {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName))) {
+            writer.println("PopSize,MutationRate,Elitism,Solved,Generations,TimeMS,BestFitness"
+                           + (withBudget ? ",Budget" : ""));
             for (TuningResult r : results) {
-                writer.printf("%d,%.2f,%d,%b,%d,%d,%.2f%n", 
+                writer.printf("%d,%.2f,%d,%b,%d,%d,%.2f", 
                               r.pop, r.mut, r.elit, r.solved, r.gen, r.time, r.fitness);
+                writer.println(withBudget ? "," + r.budget : "");
             }
-            System.out.println("\n✅ Berhasil! Hasil lengkap disimpan di: tuning_results.csv");
+            System.out.println("\n✅ Berhasil! Hasil lengkap disimpan di: " + fileName);
         } catch (IOException e) {
             System.out.println("❌ Gagal menyimpan file CSV.");
         }
     }
 
+    /**
+     * Successive halving: semua kombinasi grid dijalankan paralel dengan beberapa seed,
+     * dengan budget generasi yang naik per rung (minGen, minGen*eta, ... , MAX_GEN).
+     * Setelah setiap rung hanya 1/eta kombinasi terbaik yang dilanjutkan; GA yang lolos
+     * melanjutkan dari generasi terakhirnya (step()), bukan diulang dari awal.
+     *
+     * Ranking per kombinasi: jumlah seed yang solved (terbanyak), lalu rata-rata best fitness,
+     * lalu rata-rata generasi. Hasil CSV per kombinasi: Solved = semua seed solved,
+     * Generations = generasi maksimal yang dicapai, TimeMS = total waktu semua seed,
+     * BestFitness = rata-rata, Budget = total generasi yang dijalankan semua seed.
+     */
+    private static void runSuccessiveHalving(Puzzle puzzle, int seeds, int threads, int eta, int minGen)
+            throws Exception {
+        seeds = Math.max(1, seeds);
+        eta = Math.max(2, eta);
+        threads = Math.max(1, threads);
+
+        List<Candidate> alive = new ArrayList<>();
+        for (int pop : POP_SIZES) {
+            for (double mut : MUT_RATES) {
+                for (int elit : ELITISM_VALUES) {
+                    alive.add(new Candidate(puzzle, pop, mut, elit, seeds));
+                }
+            }
+        }
+        List<Candidate> all = new ArrayList<>(alive);
+
+        System.out.println("=================================================");
+        System.out.println("   SUCCESSIVE HALVING PARAMETER TUNING");
+        System.out.println("=================================================");
+        System.out.println("Total Kombinasi: " + alive.size() + ", Seeds: " + seeds
+                           + ", Eta: " + eta + ", Threads: " + threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            int budget = Math.min(Math.max(1, minGen), MAX_GEN);
+            while (true) {
+                System.out.printf("%nRung: budget %d generasi, %d kombinasi%n", budget, alive.size());
+
+                // Satu task per (kombinasi, seed)
+                List<Future<?>> futures = new ArrayList<>();
+                for (Candidate c : alive) {
+                    for (SeedRun run : c.runs) {
+                        final int target = budget;
+                        futures.add(executor.submit(() -> run.advanceTo(target)));
+                    }
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+
+                alive.sort((a, b) -> a.compareTo(b));
+                for (Candidate c : alive) {
+                    System.out.printf("  Pop: %d, Mut: %.2f, Elit: %d | Solved %d/%d, Avg Fit: %.2f%n",
+                                      c.pop, c.mut, c.elit, c.solvedCount(), seeds, c.meanFitness());
+                }
+
+                if (budget >= MAX_GEN || alive.size() == 1) {
+                    break;
+                }
+                int keep = Math.max(1, (alive.size() + eta - 1) / eta);
+                alive = new ArrayList<>(alive.subList(0, keep));
+                budget = (int) Math.min((long) budget * eta, MAX_GEN);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Laporan: urutan grid asli, konfigurasi yang gugur tercatat dengan budget yang terpakai
+        List<TuningResult> results = new ArrayList<>();
+        for (Candidate c : all) {
+            results.add(c.toResult());
+        }
+        printFinalReport(results);
+        Candidate best = alive.get(0);
+        System.out.printf("%nTerbaik -> Pop: %d, Mut: %.2f, Elit: %d%n", best.pop, best.mut, best.elit);
+        saveToCSV(results, "tuning_results_halving.csv", true);
+    }
+
+    // Satu kombinasi parameter dengan GA per seed
+    private static class Candidate implements Comparable<Candidate> {
+        int pop, elit;
+        double mut;
+        SeedRun[] runs;
+
+        Candidate(Puzzle puzzle, int pop, double mut, int elit, int seeds) {
+            this.pop = pop; this.mut = mut; this.elit = elit;
+            this.runs = new SeedRun[seeds];
+            for (int s = 0; s < seeds; s++) {
+                runs[s] = new SeedRun(puzzle, pop, mut, elit, SEED + 1000L * s);
+            }
+        }
+
+        int solvedCount() {
+            int count = 0;
+            for (SeedRun run : runs) {
+                if (run.ga.isSolutionFound()) count++;
+            }
+            return count;
+        }
+
+        double meanFitness() {
+            double total = 0;
+            for (SeedRun run : runs) {
+                total += run.ga.getBestFitness();
+            }
+            return total / runs.length;
+        }
+
+        double meanGenerations() {
+            double total = 0;
+            for (SeedRun run : runs) {
+                total += run.ga.getCurrentGeneration();
+            }
+            return total / runs.length;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            int bySolved = Integer.compare(other.solvedCount(), solvedCount());
+            if (bySolved != 0) return bySolved;
+            int byFitness = Double.compare(meanFitness(), other.meanFitness());
+            if (byFitness != 0) return byFitness;
+            return Double.compare(meanGenerations(), other.meanGenerations());
+        }
+
+        TuningResult toResult() {
+            int maxGen = 0;
+            long time = 0;
+            long budget = 0;
+            for (SeedRun run : runs) {
+                maxGen = Math.max(maxGen, run.ga.getCurrentGeneration());
+                time += run.timeMs;
+                budget += run.ga.getCurrentGeneration();
+            }
+            TuningResult result = new TuningResult(pop, mut, elit, solvedCount() == runs.length,
+                                                   maxGen, time, meanFitness());
+            result.budget = budget;
+            return result;
+        }
+    }
+
+    // Satu GA (kombinasi + seed) yang bisa dilanjutkan antar rung
+    private static class SeedRun {
+        final ImprovedGeneticAlgorithm ga;
+        boolean initialized;
+        long timeMs;
+
+        SeedRun(Puzzle puzzle, int pop, double mut, int elit, long seed) {
+            // Strategi sama dengan grid search; jadwal mutasi tetap memakai MAX_GEN penuh
+            SelectionStrategy selection = MultiSizeExperimentRunner.createSelection(selectionMode);
+            CrossoverStrategy crossover = new FitnessGuidedUniformCrossover(0.40);
+            MutationStrategy mutation = new AdaptiveMutation(mut, 0.01, MAX_GEN);
+            ga = new ImprovedGeneticAlgorithm(
+                puzzle, pop, 0.86, mut, MAX_GEN, elit,
+                selection, crossover, mutation, seed
+            );
+            ga.setVerbose(false);
+            ga.setPopulationArena(true);
+        }
+
+        // Dipanggil di worker thread; satu SeedRun hanya dipegang satu task per rung
+        void advanceTo(int generation) {
+            long start = System.currentTimeMillis();
+            if (!initialized) {
+                ga.initialize();
+                initialized = true;
+            }
+            while (!ga.isFinished() && ga.getCurrentGeneration() < generation) {
+                ga.step();
+            }
+            timeMs += System.currentTimeMillis() - start;
+        }
+    }
+
     // Class helper untuk menyimpan hasil tiap iterasi
     private static class TuningResult {
         int pop, elit, gen;
         double mut, fitness;
         boolean solved;
         long time;
+        long budget;  // total generasi yang dijalankan (mode successive halving)
 
         TuningResult(int p, double m, int e, boolean s, int g, long t, double f) {
             this.pop = p; this.mut = m; this.elit = e; 
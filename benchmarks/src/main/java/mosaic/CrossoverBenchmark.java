@@ -0,0 +1,52 @@
+package mosaic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Crossover satu generasi: populationSize / 2 pasangan parent berurutan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrossoverBenchmark extends PopulationBenchmarkBase {
+    @Param({"SinglePoint", "TwoPoint", "FitnessGuided"})
+    public String crossover;
+
+    private CrossoverStrategy strategy;
+
+    @Override
+    protected void setUpBenchmark() {
+        switch (crossover) {
+            case "SinglePoint":
+                strategy = new SinglePointCrossover();
+                break;
+            case "TwoPoint":
+                strategy = new TwoPointCrossover();
+                break;
+            case "FitnessGuided":
+                strategy = new FitnessGuidedUniformCrossover(0.35);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown crossover: " + crossover);
+        }
+    }
+
+    @Benchmark
+    public void crossoverGeneration(Blackhole blackhole) {
+        for (int i = 0; i + 1 < populationSize; i += 2) {
+            blackhole.consume(strategy.crossover(population[i], population[i + 1], random));
+        }
+    }
+}
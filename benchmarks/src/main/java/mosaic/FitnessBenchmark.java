@@ -0,0 +1,48 @@
+package mosaic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * FitnessFunction.calculateFitness (jalur penuh, tanpa cache) untuk seluruh populasi,
+ * dibandingkan dengan BitSlicedEvaluator (64 individu per word).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FitnessBenchmark extends PopulationBenchmarkBase {
+    private BitSlicedEvaluator bitSlicedEvaluator;
+
+    @Override
+    protected void setUpBenchmark() {
+        bitSlicedEvaluator = new BitSlicedEvaluator(fitnessFunction);
+    }
+
+    @Benchmark
+    public void calculateFitness(Blackhole blackhole) {
+        for (Chromosome chromosome : population) {
+            // setCell dengan nilai yang sama hanya menandai fitness perlu dihitung ulang
+            chromosome.setCell(0, 0, chromosome.getCell(0, 0));
+            blackhole.consume(fitnessFunction.calculateFitness(chromosome));
+        }
+    }
+
+    @Benchmark
+    public void bitSlicedEvaluate(Blackhole blackhole) {
+        for (Chromosome chromosome : population) {
+            chromosome.setCell(0, 0, chromosome.getCell(0, 0));
+        }
+        bitSlicedEvaluator.evaluate(population);
+        blackhole.consume(population[population.length - 1].getFitness());
+    }
+}
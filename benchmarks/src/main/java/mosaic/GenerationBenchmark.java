@@ -0,0 +1,46 @@
+package mosaic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Satu createNewGeneration penuh (seleksi, crossover, mutasi, evaluasi, statistik)
+ * dengan operator yang sama seperti konfigurasi runner untuk papan besar.
+ * GA diinisialisasi ulang setiap iterasi supaya populasi tidak terus konvergen.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationBenchmark extends PopulationBenchmarkBase {
+    private ImprovedGeneticAlgorithm ga;
+
+    @Setup(Level.Iteration)
+    public void setUpGeneration() {
+        ga = new ImprovedGeneticAlgorithm(
+            puzzle, populationSize, 0.86, 0.12, 600, 8,
+            new RouletteWheelSelection(),
+            new FitnessGuidedUniformCrossover(0.35),
+            new AdaptiveMutation(0.13, 0.01, 600),
+            SEED
+        );
+        ga.setVerbose(false);
+        ga.initialize();
+    }
+
+    @Benchmark
+    public double createNewGeneration() {
+        ga.createNewGeneration();
+        return ga.getBestFitness();
+    }
+}
@@ -0,0 +1,74 @@
+package mosaic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Operator per generasi selain seleksi dan crossover: AdaptiveMutation.mutate,
+ * DiversityMeasure dan Heuristics.applyHeuristics, masing-masing untuk seluruh populasi.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperatorBenchmark extends PopulationBenchmarkBase {
+    @Param({"false", "true"})
+    public boolean geometricSkip;
+
+    private AdaptiveMutation mutation;
+    private Heuristics heuristics;
+    private Chromosome[] templates;
+    private Chromosome[] scratch;
+
+    @Override
+    protected void setUpBenchmark() {
+        mutation = new AdaptiveMutation(0.14, 0.01, 700);
+        mutation.setGeometricSkip(geometricSkip);
+        mutation.updateStatistics(PopulationStatistics.of(100, population));
+
+        heuristics = new Heuristics(puzzle);
+        templates = new Chromosome[populationSize];
+        scratch = new Chromosome[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            templates[i] = population[i].clone();
+            scratch[i] = population[i].clone();
+        }
+    }
+
+    @Benchmark
+    public void mutate() {
+        for (Chromosome chromosome : scratch) {
+            mutation.mutate(chromosome, 0.14, random);
+        }
+    }
+
+    @Benchmark
+    public double diversity() {
+        return DiversityMeasure.calculateDiversity(population);
+    }
+
+    @Benchmark
+    public double fitnessDiversity() {
+        return DiversityMeasure.calculateFitnessDiversity(population);
+    }
+
+    @Benchmark
+    public void applyHeuristics(Blackhole blackhole) {
+        // Heuristik mengubah kromosom, jadi mulai lagi dari salinan populasi awal
+        for (int i = 0; i < populationSize; i++) {
+            scratch[i].copyGenesFrom(templates[i]);
+            heuristics.applyHeuristics(scratch[i]);
+            blackhole.consume(scratch[i]);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package mosaic;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * State bersama benchmark: puzzle dari examples/ dan populasi acak yang sudah dievaluasi.
+ *
+ * Folder examples dicari di system property mosaic.examples, lalu ../examples
+ * (menjalankan dari folder benchmarks) dan examples (dari root repo).
+ */
+@State(Scope.Thread)
+public abstract class PopulationBenchmarkBase {
+    @Param({
+        "puzzle_3x3_easy.txt",
+        "puzzle_4x4_easy.txt",
+        "puzzle_5x5_easy.txt",
+        "puzzle_5x5_hard.txt",
+        "puzzle_7x7_medium.txt",
+        "puzzle_10x10_easy.txt",
+        "puzzle_10x10_hard.txt"
+    })
+    public String puzzleFile;
+
+    @Param({"100", "700"})
+    public int populationSize;
+
+    //Seed tetap supaya setiap fork mengukur populasi yang sama
+    protected static final long SEED = 12345L;
+
+    protected Puzzle puzzle;
+    protected FitnessFunction fitnessFunction;
+    protected Chromosome[] population;
+    protected Random random;
+
+    @Setup
+    public void setUpPopulation() throws IOException {
+        puzzle = MultiSizeExperimentRunner.loadPuzzleFromFile(findExample(puzzleFile).getPath());
+        fitnessFunction = new FitnessFunction(puzzle);
+        random = new Random(SEED);
+
+        population = new Chromosome[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            population[i] = new Chromosome(puzzle.getWidth(), puzzle.getHeight(), random);
+            fitnessFunction.calculateFitness(population[i]);
+        }
+        setUpBenchmark();
+    }
+
+    //Setup tambahan per benchmark, dipanggil setelah populasi siap
+    //(urutan beberapa @Setup dalam satu hierarki kelas tidak dijamin oleh JMH)
+    protected void setUpBenchmark() {
+    }
+
+    //Mencari file puzzle di folder examples
+    static File findExample(String name) throws FileNotFoundException {
+        String configured = System.getProperty("mosaic.examples");
+        String[] folders = (configured != null)
+                ? new String[]{configured}
+                : new String[]{"../examples", "examples"};
+        for (String folder : folders) {
+            File file = new File(folder, name);
+            if (file.exists()) {
+                return file;
+            }
+        }
+        throw new FileNotFoundException(name + " (set -Dmosaic.examples=<folder>)");
+    }
+}
@@ -0,0 +1,50 @@
+package mosaic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Seleksi satu generasi: prepare() lalu populationSize kali select(), sama seperti engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionBenchmark extends PopulationBenchmarkBase {
+    @Param({"CUMULATIVE", "ALIAS", "STOCHASTIC_UNIVERSAL", "TOURNAMENT", "TRUNCATION"})
+    public String mode;
+
+    private SelectionStrategy selection;
+
+    @Override
+    protected void setUpBenchmark() {
+        switch (mode) {
+            case "TOURNAMENT":
+                selection = new TournamentSelection();
+                break;
+            case "TRUNCATION":
+                selection = new TruncationSelection();
+                break;
+            default:
+                selection = new RouletteWheelSelection(RouletteWheelSelection.Mode.valueOf(mode));
+        }
+    }
+
+    @Benchmark
+    public void selectGeneration(Blackhole blackhole) {
+        selection.prepare(population, fitnessFunction);
+        for (int i = 0; i < populationSize; i++) {
+            blackhole.consume(selection.select(population, fitnessFunction, random));
+        }
+    }
+}
@@ -13,33 +13,78 @@ public class AdaptiveMutation implements MutationStrategy {
     //Maksimal generasi
     private int maxGenerations;
     
-    //Populasi saat ini (untuk menghitung diversity)
+    //Populasi saat ini (untuk menghitung diversity jika engine tidak memberikan snapshot)
     private Chromosome[] population;
     
+    //Snapshot statistik generasi saat ini (null = belum ada)
+    private PopulationStatistics statistics;
+    
+    //Mutation rate yang sudah dihitung untuk generasi saat ini
+    private double cachedRate;
+    private boolean rateCalculated;
+    
+    //Pakai geometric skip sampling (jarak ke gen berikutnya yang di-flip) alih-alih satu nextDouble() per gen
+    private boolean geometricSkip;
+    
     //Constructor
     public AdaptiveMutation(double initialMutationRate, double finalMutationRate, int maxGenerations) {
         this.initialMutationRate = initialMutationRate;
         this.finalMutationRate = finalMutationRate;
         this.maxGenerations = maxGenerations;
         this.currentGeneration = 0;
+        this.geometricSkip = false;
+    }
+    
+    //Mengaktifkan geometric skip sampling (distribusi sama, urutan random berbeda dari per-gen)
+    public void setGeometricSkip(boolean geometricSkip) {
+        this.geometricSkip = geometricSkip;
+    }
+    
+    public boolean isGeometricSkip() {
+        return geometricSkip;
     }
     
     //Update generasi saat ini
     public void updateGeneration(int generation) {
-        this.currentGeneration = Math.max(0, generation);
-        // Pastikan tidak melebihi max generations
-        if (this.currentGeneration > maxGenerations) {
-            this.currentGeneration = maxGenerations;
+        int clamped = Math.min(maxGenerations, Math.max(0, generation));
+        if (clamped != currentGeneration) {
+            rateCalculated = false;
         }
+        this.currentGeneration = clamped;
     }
     
-    //Update populasi saat ini
+    //Update populasi saat ini (statistik dihitung sekali saat mutasi berikutnya)
     public void updatePopulation(Chromosome[] population) {
+        if (population != this.population) {
+            rateCalculated = false;
+        }
         this.population = population;
+        this.statistics = null;
+    }
+    
+    //Update snapshot statistik generasi dari engine; mutation rate dihitung sekali di sini
+    public void updateStatistics(PopulationStatistics statistics) {
+        this.statistics = statistics;
+        this.population = null;
+        this.currentGeneration = Math.min(maxGenerations, Math.max(0, statistics.getGeneration()));
+        this.cachedRate = calculateAdaptiveMutationRate(statistics);
+        this.rateCalculated = true;
+    }
+    
+    //Mutation rate untuk generasi saat ini (dihitung paling banyak sekali per generasi)
+    private double currentRate() {
+        if (!rateCalculated) {
+            if (statistics == null && population != null && population.length > 0) {
+                statistics = PopulationStatistics.of(currentGeneration, population);
+            }
+            cachedRate = calculateAdaptiveMutationRate(statistics);
+            rateCalculated = true;
+        }
+        return cachedRate;
     }
     
     //Menghitung mutation rate adaptif berdasarkan generasi, diversity, dan progress
-    private double calculateAdaptiveMutationRate() {
+    private double calculateAdaptiveMutationRate(PopulationStatistics stats) {
         // Faktor 1: Berdasarkan generasi
         double progress = (double) currentGeneration / maxGenerations;
         double generationFactor = Math.pow(1.0 - progress, 0.7);
@@ -47,9 +92,9 @@ public class AdaptiveMutation implements MutationStrategy {
         // Faktor 2: Berdasarkan diversity 
         // jika diversity rendah, tingkatkan mutation
         double diversityFactor = 1.0;
-        if (population != null && population.length > 1) {
-            double diversity = DiversityMeasure.calculateDiversity(population);
-            double fitnessStdDev = DiversityMeasure.calculateFitnessDiversity(population);
+        if (stats != null) {
+            double diversity = stats.getDiversity();
+            double fitnessStdDev = stats.getFitnessStdDev();
             
             // Jika diversity rendah, tingkatkan mutation rate lebih agresif
             if (diversity < 0.15) {
@@ -76,12 +121,8 @@ public class AdaptiveMutation implements MutationStrategy {
         // Jika fitness sangat dekat, kurangi mutation  
         boolean isFineTuningMode = false;
         double currentBestFitness = Double.MAX_VALUE;
-        if (population != null && population.length > 0) {
-            for (Chromosome c : population) {
-                if (c.getFitness() < currentBestFitness) {
-                    currentBestFitness = c.getFitness();
-                }
-            }
+        if (stats != null) {
+            currentBestFitness = stats.getBestFitness();
             isFineTuningMode = (currentBestFitness < 15.0);
         }
         
@@ -101,8 +142,8 @@ public class AdaptiveMutation implements MutationStrategy {
         
         // Faktor 4 - Stagnation-based boost
         // Jika populasi homogen (diversity sangat rendah), naikkan mutation rate
-        if (population != null && population.length > 1) {
-            double diversity = DiversityMeasure.calculateDiversity(population);
+        if (stats != null) {
+            double diversity = stats.getDiversity();
             if (diversity < 0.15) {
                 progressFactor *= 1.6;
             } else if (diversity < 0.25) {
@@ -124,20 +165,50 @@ public class AdaptiveMutation implements MutationStrategy {
     //Melakukan mutation dengan rate adaptif
     @Override
     public void mutate(Chromosome chromosome, double mutationRate, Random random) {
-        double adaptiveRate = calculateAdaptiveMutationRate();
+        double adaptiveRate = currentRate();
+        
+        if (geometricSkip) {
+            mutateWithSkips(chromosome, adaptiveRate, random);
+            return;
+        }
         
         // Lakukan mutation dengan rate adaptif
         for (int i = 0; i < chromosome.getLength(); i++) {
             if (random.nextDouble() < adaptiveRate) {
-                boolean currentValue = chromosome.getGene(i);
-                chromosome.setGene(i, !currentValue);
+                chromosome.flipGene(i);
+            }
+        }
+    }
+    
+    //Geometric skip sampling: jarak ke gen berikutnya yang di-flip ~ Geometric(rate),
+    //sehingga jumlah pemanggilan random sebanding dengan jumlah flip, bukan panjang kromosom
+    private static void mutateWithSkips(Chromosome chromosome, double rate, Random random) {
+        if (rate <= 0.0) {
+            return;
+        }
+        int length = chromosome.getLength();
+        if (rate >= 1.0) {
+            for (int i = 0; i < length; i++) {
+                chromosome.flipGene(i);
+            }
+            return;
+        }
+        
+        double logComplement = Math.log(1.0 - rate);
+        long index = -1;
+        while (true) {
+            // 1 - nextDouble() berada di (0, 1] sehingga log-nya terdefinisi
+            index += 1 + (long) (Math.log(1.0 - random.nextDouble()) / logComplement);
+            if (index >= length) {
+                break;
             }
+            chromosome.flipGene((int) index);
         }
     }
     
     //Mendapatkan mutation rate saat ini
     public double getCurrentMutationRate() {
-        return calculateAdaptiveMutationRate();
+        return currentRate();
     }
 }
 
@@ -0,0 +1,147 @@
+/**
+ * Solver exact: backtracking di atas ConstraintPropagator.
+ *
+ * Cara kerja:
+ * 1. ConstraintPropagator menyimpan status sel sebagai bitboard tiga nilai dan melakukan
+ *    propagasi kardinalitas + aturan pasangan hint overlapping sampai fixpoint
+ * 2. Konflik dideteksi langsung saat sel diisi (hitam > nilai atau hitam + unknown < nilai)
+ * 3. Branching pada hint yang paling terbatas (kombinasi C(unknown, sisa) terkecil)
+ *    di frontier baris teratas yang belum selesai; backtrack memakai trail propagator
+ *
+ * Sel yang tidak tercakup hint mana pun tidak mempengaruhi fitness dan dibiarkan putih.
+ * Satu instance tidak boleh dipakai beberapa thread sekaligus.
+ */
+public class BacktrackingSolver implements SolverStrategy {
+    //Binomial C(n, k) untuk n, k <= 9 (ukuran area 3x3)
+    private static final int[][] BINOMIAL = new int[10][10];
+    static {
+        for (int n = 0; n < 10; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + (k <= n - 1 ? BINOMIAL[n - 1][k] : 0);
+            }
+        }
+    }
+    
+    //Batas jumlah node pencarian (Long.MAX_VALUE = tanpa batas)
+    private long nodeLimit = Long.MAX_VALUE;
+    
+    //Statistik pencarian terakhir
+    private long nodes;
+    private long backtracks;
+    private boolean limitReached;
+    
+    //State pencarian
+    private ConstraintPropagator propagator;
+    private HintIndex hints;
+    private int width;
+    private int height;
+    
+    public void setNodeLimit(long nodeLimit) {
+        this.nodeLimit = nodeLimit;
+    }
+    
+    public long getNodes() { return nodes; }
+    public long getBacktracks() { return backtracks; }
+    public boolean isLimitReached() { return limitReached; }
+    
+    @Override
+    public String getName() {
+        return "Exact (Backtracking)";
+    }
+    
+    @Override
+    public Chromosome solve(Puzzle puzzle) {
+        propagator = new ConstraintPropagator(puzzle);
+        hints = puzzle.getHintIndex();
+        width = puzzle.getWidth();
+        height = puzzle.getHeight();
+        
+        nodes = 0;
+        backtracks = 0;
+        limitReached = false;
+        
+        if (!search()) {
+            return null;
+        }
+        return propagator.toChromosome();
+    }
+    
+    //Pencarian rekursif: propagasi, lalu branching pada sel unknown dari hint paling terbatas
+    private boolean search() {
+        if (!propagator.propagate()) {
+            return false;
+        }
+        
+        int hint = mostConstrainedHint();
+        if (hint < 0) {
+            return true;  // Semua hint sudah terpenuhi
+        }
+        
+        int cell = firstUnknownCell(hint);
+        int remaining = hints.getValue(hint) - propagator.getBlackCount(hint);
+        boolean blackFirst = remaining * 2 >= propagator.getUnknownCount(hint);
+        
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (++nodes > nodeLimit) {
+                limitReached = true;
+                return false;
+            }
+            boolean value = (attempt == 0) == blackFirst;
+            int mark = propagator.getTrailSize();
+            if (propagator.assign(cell, value) && search()) {
+                return true;
+            }
+            if (limitReached) {
+                return false;
+            }
+            propagator.undo(mark);
+            backtracks++;
+        }
+        return false;
+    }
+    
+    //Hint dengan unknown > 0 dan jumlah kemungkinan pengisian paling sedikit (-1 jika tidak ada).
+    //Kandidat dibatasi pada frontier: hint belum selesai di baris teratas dan satu baris di bawahnya,
+    //agar region papan yang independen tidak saling memicu backtracking (thrashing).
+    private int mostConstrainedHint() {
+        int hintCount = hints.getHintCount();
+        int first = 0;
+        while (first < hintCount && propagator.getUnknownCount(first) == 0) {
+            first++;
+        }
+        if (first == hintCount) {
+            return -1;
+        }
+        
+        int lastRow = hints.getRow(first) + 1;
+        int best = -1;
+        int bestOptions = Integer.MAX_VALUE;
+        for (int h = first; h < hintCount && hints.getRow(h) <= lastRow; h++) {
+            int unknown = propagator.getUnknownCount(h);
+            if (unknown == 0) {
+                continue;
+            }
+            int options = BINOMIAL[unknown][hints.getValue(h) - propagator.getBlackCount(h)];
+            if (options < bestOptions) {
+                best = h;
+                bestOptions = options;
+            }
+        }
+        return best;
+    }
+    
+    //Sel unknown pertama di area 3x3 hint
+    private int firstUnknownCell(int h) {
+        int row = hints.getRow(h);
+        int col = hints.getCol(h);
+        for (int r = Math.max(0, row - 1); r <= Math.min(height - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(width - 1, col + 1); c++) {
+                if (!propagator.isKnown(r, c)) {
+                    return r * width + c;
+                }
+            }
+        }
+        throw new IllegalStateException("Hint " + h + " has no unknown cell");
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Backend evaluasi fitness bit-sliced: 64 individu dievaluasi sekaligus per word.
+ *
+ * Cara kerja:
+ * 1. Populasi diproses per blok 64 individu. Genom blok di-transpose (transpose matriks
+ *    bit 64x64 per word) menjadi layout bit-sliced: bit j dari slice[cell] = sel cell
+ *    milik individu ke-j
+ * 2. Untuk setiap hint, 9 slice di area 3x3 dijumlahkan dengan ripple adder 4 bit
+ *    (count 0..9 untuk 64 individu sekaligus)
+ * 3. Error |count - nilai hint| dihitung bit-sliced (pengurangan konstanta 5 bit lalu
+ *    nilai absolut), lalu dipecah kembali menjadi error per individu per hint
+ * 4. Fitness disusun oleh FitnessFunction.fitnessFromErrors, jalur yang sama dengan
+ *    evaluasi penuh, sehingga hasilnya identik dengan calculateFitness
+ *
+ * Buffer kerja disimpan per thread, jadi evaluateBlock aman dipanggil paralel untuk
+ * blok yang berbeda.
+ */
+public class BitSlicedEvaluator {
+    private static final int BLOCK = 64;
+
+    private final FitnessFunction fitnessFunction;
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final int hintCount;
+    private final int[] hintValues;
+
+    //CSR hint -> sel di area 3x3: hintCells[hintCellStart[h]..hintCellStart[h+1])
+    private final int[] hintCellStart;
+    private final int[] hintCells;
+
+    //Buffer kerja per thread
+    private final ThreadLocal<Scratch> scratch;
+
+    //Constructor
+    public BitSlicedEvaluator(FitnessFunction fitnessFunction) {
+        HintIndex hints = fitnessFunction.getHintIndex();
+        this.fitnessFunction = fitnessFunction;
+        this.width = hints.getWidth();
+        this.height = hints.getHeight();
+        this.wordsPerRow = Chromosome.wordsPerRow(width);
+        this.hintCount = hints.getHintCount();
+
+        hintValues = new int[hintCount];
+        hintCellStart = new int[hintCount + 1];
+        for (int h = 0; h < hintCount; h++) {
+            hintValues[h] = hints.getValue(h);
+            hintCellStart[h + 1] = hintCellStart[h] + hints.getNeighborCount(h);
+        }
+        hintCells = new int[hintCellStart[hintCount]];
+        for (int h = 0, k = 0; h < hintCount; h++) {
+            int row = hints.getRow(h);
+            int col = hints.getCol(h);
+            for (int r = Math.max(0, row - 1); r <= Math.min(height - 1, row + 1); r++) {
+                for (int c = Math.max(0, col - 1); c <= Math.min(width - 1, col + 1); c++) {
+                    hintCells[k++] = r * width + c;
+                }
+            }
+        }
+
+        scratch = ThreadLocal.withInitial(() -> new Scratch(width * height, hintCount));
+    }
+
+    //Mengevaluasi semua kromosom yang fitness-nya belum dihitung
+    public void evaluate(Chromosome[] chromosomes) {
+        evaluate(chromosomes, null);
+    }
+
+    //Mengevaluasi semua kromosom yang fitness-nya belum dihitung, blok dijalankan paralel jika parallel != null
+    public void evaluate(Chromosome[] chromosomes, ParallelEvaluator parallel) {
+        // Kumpulkan kromosom yang perlu dievaluasi agar setiap blok terisi penuh
+        int pending = 0;
+        Chromosome[] queue = new Chromosome[chromosomes.length];
+        for (Chromosome chromosome : chromosomes) {
+            if (!chromosome.isFitnessCalculated()) {
+                queue[pending++] = chromosome;
+            }
+        }
+
+        int blocks = (pending + BLOCK - 1) / BLOCK;
+        final int total = pending;
+        if (parallel != null && blocks > 1) {
+            parallel.forEach(blocks, b -> evaluateBlock(queue, b * BLOCK, Math.min(BLOCK, total - b * BLOCK)));
+        } else {
+            for (int b = 0; b < blocks; b++) {
+                evaluateBlock(queue, b * BLOCK, Math.min(BLOCK, total - b * BLOCK));
+            }
+        }
+    }
+
+    //Mengevaluasi chromosomes[from..from+count) (count <= 64) dan mengisi fitness-nya
+    public void evaluateBlock(Chromosome[] chromosomes, int from, int count) {
+        Scratch s = scratch.get();
+        computeErrors(chromosomes, from, count, s);
+        for (int j = 0; j < count; j++) {
+            chromosomes[from + j].setFitness(fitnessFunction.fitnessFromErrors(s.errors[j]));
+        }
+    }
+
+    //Error local per hint untuk chromosomes[from..from+count): errors[j][h]
+    public int[][] computeErrors(Chromosome[] chromosomes, int from, int count) {
+        Scratch s = new Scratch(width * height, hintCount);
+        computeErrors(chromosomes, from, count, s);
+        int[][] errors = new int[count][];
+        for (int j = 0; j < count; j++) {
+            errors[j] = s.errors[j].clone();
+        }
+        return errors;
+    }
+
+    private void computeErrors(Chromosome[] chromosomes, int from, int count, Scratch s) {
+        if (count < 1 || count > BLOCK) {
+            throw new IllegalArgumentException("Block size must be 1.." + BLOCK);
+        }
+        transposeBlock(chromosomes, from, count, s);
+
+        long[] slices = s.slices;
+        for (int h = 0; h < hintCount; h++) {
+            // Ripple adder: count = c3 c2 c1 c0 untuk 64 individu
+            long c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+            int end = hintCellStart[h + 1];
+            for (int k = hintCellStart[h]; k < end; k++) {
+                long carry = slices[hintCells[k]];
+                long t = c0 & carry;
+                c0 ^= carry;
+                carry = t;
+                t = c1 & carry;
+                c1 ^= carry;
+                carry = t;
+                t = c2 & carry;
+                c2 ^= carry;
+                c3 ^= t;
+            }
+
+            // diff = count - nilai hint (5 bit two's complement), borrow akhir = tanda negatif
+            int value = hintValues[h];
+            long borrow = 0;
+            long d0, d1, d2, d3;
+            long v = -(value & 1);
+            d0 = c0 ^ v ^ borrow;
+            borrow = (~c0 & v) | (~(c0 ^ v) & borrow);
+            v = -((value >>> 1) & 1);
+            d1 = c1 ^ v ^ borrow;
+            borrow = (~c1 & v) | (~(c1 ^ v) & borrow);
+            v = -((value >>> 2) & 1);
+            d2 = c2 ^ v ^ borrow;
+            borrow = (~c2 & v) | (~(c2 ^ v) & borrow);
+            v = -((value >>> 3) & 1);
+            d3 = c3 ^ v ^ borrow;
+            borrow = (~c3 & v) | (~(c3 ^ v) & borrow);
+            long negative = borrow;
+
+            // |diff|: negasi two's complement (invert + 1) hanya untuk individu yang negatif
+            long carry = negative;
+            long x = d0 ^ negative;
+            long e0 = x ^ carry;
+            carry &= x;
+            x = d1 ^ negative;
+            long e1 = x ^ carry;
+            carry &= x;
+            x = d2 ^ negative;
+            long e2 = x ^ carry;
+            carry &= x;
+            x = d3 ^ negative;
+            long e3 = x ^ carry;
+
+            // Pecah error bit-sliced menjadi error per individu
+            for (int j = 0; j < count; j++) {
+                s.errors[j][h] = (int) (((e0 >>> j) & 1) | (((e1 >>> j) & 1) << 1)
+                        | (((e2 >>> j) & 1) << 2) | (((e3 >>> j) & 1) << 3));
+            }
+        }
+    }
+
+    //Mengisi slices dari genom blok: transpose 64x64 untuk setiap word genom
+    private void transposeBlock(Chromosome[] chromosomes, int from, int count, Scratch s) {
+        long[] matrix = s.matrix;
+        int wordCount = wordsPerRow * height;
+        for (int w = 0; w < wordCount; w++) {
+            for (int j = 0; j < count; j++) {
+                matrix[j] = chromosomes[from + j].getWord(w);
+            }
+            for (int j = count; j < BLOCK; j++) {
+                matrix[j] = 0L;
+            }
+            transpose64(matrix);
+
+            int row = w / wordsPerRow;
+            int colBase = (w % wordsPerRow) * 64;
+            int cols = Math.min(64, width - colBase);
+            int base = row * width + colBase;
+            System.arraycopy(matrix, 0, s.slices, base, cols);
+        }
+    }
+
+    //Transpose matriks bit 64x64 in-place: bit k dari a[j] menjadi bit j dari a[k]
+    static void transpose64(long[] a) {
+        long m = 0x00000000FFFFFFFFL;
+        for (int j = 32; j != 0; j >>>= 1, m ^= (m << j)) {
+            for (int k = 0; k < 64; k = ((k | j) + 1) & ~j) {
+                long t = ((a[k] >>> j) ^ a[k | j]) & m;
+                a[k] ^= t << j;
+                a[k | j] ^= t;
+            }
+        }
+    }
+
+    //Buffer kerja satu thread
+    private static class Scratch {
+        final long[] matrix = new long[BLOCK];
+        final long[] slices;
+        final int[][] errors;
+
+        Scratch(int cellCount, int hintCount) {
+            slices = new long[cellCount];
+            errors = new int[BLOCK][hintCount];
+        }
+    }
+}
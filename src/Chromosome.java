@@ -1,3 +1,5 @@
+import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.Random;
 
 /**
@@ -6,139 +8,417 @@ import java.util.Random;
  * Bit 1 (true) = sel terisi (hitam)
  * Bit 0 (false) = sel kosong (putih)
  * Panjang kromosom = width × height
+ *
+ * Representasi bit-packed: 64 sel per long, setiap baris dimulai pada word baru
+ * (row-aligned), sehingga sel (row, col) berada di word row * wordsPerRow + col / 64
+ * pada bit col % 64. Bit padding di akhir setiap baris selalu 0.
+ *
+ * Word bisa dimiliki sendiri atau berupa view ke buffer bersama (PopulationStore),
+ * dimulai dari offset tertentu. Clone selalu memiliki word sendiri.
  */
 public class Chromosome {
-    //Representasi status setiap sel (true = hitam, false = putih)
-    private boolean[] genes;
-    
+    //Representasi status setiap sel, 64 sel per word (bit 1 = hitam, bit 0 = putih)
+    private long[] words;
+
+    //Index word pertama kromosom ini di array words (0 kecuali view PopulationStore) dan jumlah word
+    private int offset;
+    private int wordCount;
+
     //Ukuran papan
     private int width;
     private int height;
-    
+
+    //Jumlah word per baris dan mask bit valid pada word terakhir setiap baris
+    private int wordsPerRow;
+    private long lastWordMask;
+
     //Nilai fitness (0 = solusi sempurna)
     private double fitness;
-    
+
     //Status fitness
     private boolean fitnessCalculated;
-    
+
+    //State evaluasi incremental (null jika mode incremental tidak dipakai)
+    private FitnessState fitnessState;
+
     //Constructor untuk membuat kromosom baru dengan gen acak
     public Chromosome(int width, int height, Random random) {
+        this(width, height);
+
+        // Inisialisasi acak (urutan pemanggilan random sama dengan representasi boolean[])
+        int length = width * height;
+        for (int i = 0; i < length; i++) {
+            if (random.nextBoolean()) {
+                int row = i / width;
+                int col = i - row * width;
+                words[row * wordsPerRow + (col >>> 6)] |= 1L << col;
+            }
+        }
+    }
+
+    //Constructor untuk membuat kromosom baru dengan gen yang sudah ditentukan
+    public Chromosome(int width, int height, boolean[] genes) {
+        this(width, height);
+
+        for (int i = 0; i < genes.length; i++) {
+            if (genes[i]) {
+                int row = i / width;
+                int col = i - row * width;
+                words[row * wordsPerRow + (col >>> 6)] |= 1L << col;
+            }
+        }
+    }
+
+    //Constructor untuk membuat kromosom baru langsung dari word (bit padding diabaikan)
+    public Chromosome(int width, int height, long[] words) {
+        this(width, height);
+        setWords(words);
+    }
+
+    //Constructor dasar: semua sel putih
+    private Chromosome(int width, int height) {
         this.width = width;
         this.height = height;
-        this.genes = new boolean[width * height];
+        this.wordsPerRow = wordsPerRow(width);
+        this.lastWordMask = (width & 63) == 0 ? -1L : (1L << (width & 63)) - 1;
+        this.wordCount = wordsPerRow * height;
+        this.words = new long[wordCount];
         this.fitness = Double.MAX_VALUE;
         this.fitnessCalculated = false;
-        
-        // Inisialisasi acak
-        for (int i = 0; i < genes.length; i++) {
-            genes[i] = random.nextBoolean();
-        }
     }
-    
-    //Constructor untuk membuat kromosom baru dengan gen yang sudah ditentukan
-    public Chromosome(int width, int height, boolean[] genes) {
+
+    //Constructor view: word kromosom adalah buffer[offset..offset + jumlah word) milik PopulationStore
+    Chromosome(int width, int height, long[] buffer, int offset) {
         this.width = width;
         this.height = height;
-        this.genes = genes.clone(); // Clone untuk menghindari referensi yang sama
+        this.wordsPerRow = wordsPerRow(width);
+        this.lastWordMask = (width & 63) == 0 ? -1L : (1L << (width & 63)) - 1;
+        this.wordCount = wordsPerRow * height;
+        this.words = buffer;
+        this.offset = offset;
         this.fitness = Double.MAX_VALUE;
         this.fitnessCalculated = false;
     }
-    
+
+    //Apakah word kromosom ini berada di buffer tertentu (view PopulationStore)
+    boolean isViewOf(long[] buffer) {
+        return words == buffer;
+    }
+
+    //Index word pertama di buffer (0 untuk kromosom yang memiliki word sendiri)
+    int getOffset() {
+        return offset;
+    }
+
+    //Jumlah word yang dibutuhkan untuk satu baris dengan lebar tertentu
+    public static int wordsPerRow(int width) {
+        return (width + 63) >>> 6;
+    }
+
     //Mendapatkan status sel pada posisi tertentu
     public boolean getCell(int row, int col) {
-        int index = row * width + col;
-        return genes[index];
+        return (words[offset + row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
     }
-    
+
     //Mengatur status sel pada posisi tertentu
     public void setCell(int row, int col, boolean value) {
-        int index = row * width + col;
-        genes[index] = value;
+        int w = offset + row * wordsPerRow + (col >>> 6);
+        long bit = 1L << col;
         fitnessCalculated = false; // Fitness perlu dihitung ulang
+        if (((words[w] & bit) != 0) == value) {
+            return;
+        }
+        words[w] ^= bit;
+        if (fitnessState != null) {
+            fitnessState.onCellChanged(row * width + col, value);
+        }
     }
-    
+
+    //Membalik gen pada index tertentu
+    public void flipGene(int index) {
+        int row = index / width;
+        int col = index - row * width;
+        setCell(row, col, !getCell(row, col));
+    }
+
     //Mendapatkan gen pada index tertentu
     public boolean getGene(int index) {
-        return genes[index];
+        int row = index / width;
+        return getCell(row, index - row * width);
     }
-    
+
     //Mengatur gen pada index tertentu
     public void setGene(int index, boolean value) {
-        genes[index] = value;
-        fitnessCalculated = false;
+        int row = index / width;
+        setCell(row, index - row * width, value);
     }
-    
+
     //Mendapatkan panjang kromosom (jumlah gen)
     public int getLength() {
-        return genes.length;
+        return width * height;
     }
-    
+
     //Mendapatkan lebar papan
     public int getWidth() {
         return width;
     }
-    
+
     //Mendapatkan tinggi papan
     public int getHeight() {
         return height;
     }
-    
+
     //Mendapatkan array gen (clone untuk keamanan)
     public boolean[] getGenes() {
-        return genes.clone();
+        boolean[] genes = new boolean[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                genes[row * width + col] = getCell(row, col);
+            }
+        }
+        return genes;
+    }
+
+    //Jumlah word per baris
+    public int getWordsPerRow() {
+        return wordsPerRow;
+    }
+
+    //Jumlah total word
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    //Mask bit valid untuk word ke-w (bit padding di akhir baris bernilai 0)
+    public long getWordMask(int w) {
+        return (w % wordsPerRow == wordsPerRow - 1) ? lastWordMask : -1L;
+    }
+
+    //Mendapatkan word ke-w
+    public long getWord(int w) {
+        return words[offset + w];
+    }
+
+    //Mengatur word ke-w (bit padding dibuang)
+    public void setWord(int w, long value) {
+        words[offset + w] = value & getWordMask(w);
+        fitnessCalculated = false;
+        fitnessState = null;
+    }
+
+    //Mendapatkan salinan semua word
+    public long[] getWords() {
+        return Arrays.copyOfRange(words, offset, offset + wordCount);
+    }
+
+    //Menyalin semua word sekaligus dari array (bit padding dibuang)
+    public void setWords(long[] source) {
+        for (int w = 0; w < wordCount; w++) {
+            words[offset + w] = source[w] & getWordMask(w);
+        }
+        fitnessCalculated = false;
+        fitnessState = null;
+    }
+
+    //Mengatur word ke-w tanpa membuang state incremental (bit padding dibuang): state diperbarui
+    //untuk setiap bit yang berubah dalam urutan index gen, sama seperti setGene per gen
+    public void updateWord(int w, long value) {
+        int index = offset + w;
+        value &= getWordMask(w);
+        long changed = words[index] ^ value;
+        words[index] = value;
+        fitnessCalculated = false;
+        if (fitnessState == null || changed == 0) {
+            return;
+        }
+        int row = w / wordsPerRow;
+        int base = row * width + ((w - row * wordsPerRow) << 6);
+        while (changed != 0) {
+            int bit = Long.numberOfTrailingZeros(changed);
+            fitnessState.onCellChanged(base + bit, ((value >>> bit) & 1L) != 0);
+            changed &= changed - 1;
+        }
+    }
+
+    //Mengisi gen kromosom ini dengan gen a di luar index [from, to) dan gen b di dalamnya (word-level).
+    //Word di antara kedua word batas disalin sekaligus dari b, sisanya dari a; word batas memakai mask.
+    //Kromosom ini tidak boleh sama dengan a atau b.
+    public void copySegment(Chromosome a, Chromosome b, int from, int to) {
+        if (from >= to) {
+            for (int w = 0; w < wordCount; w++) {
+                updateWord(w, a.getWord(w));
+            }
+            return;
+        }
+        int first = wordOfGene(from);
+        int last = wordOfGene(to - 1);
+        long firstMask = segmentMask(first, from, to);
+        long lastMask = segmentMask(last, from, to);
+
+        if (fitnessState != null) {
+            // State incremental: setiap word ditulis lewat updateWord agar state ikut diperbarui
+            for (int w = 0; w < wordCount; w++) {
+                long mask = (w < first || w > last) ? 0L
+                    : (w == first) ? firstMask
+                    : (w == last) ? lastMask
+                    : -1L;
+                updateWord(w, (a.getWord(w) & ~mask) | (b.getWord(w) & mask));
+            }
+            return;
+        }
+
+        System.arraycopy(a.words, a.offset, words, offset, first);
+        words[offset + first] = (a.getWord(first) & ~firstMask) | (b.getWord(first) & firstMask);
+        if (last > first) {
+            System.arraycopy(b.words, b.offset + first + 1, words, offset + first + 1, last - first - 1);
+            words[offset + last] = (a.getWord(last) & ~lastMask) | (b.getWord(last) & lastMask);
+        }
+        System.arraycopy(a.words, a.offset + last + 1, words, offset + last + 1, wordCount - last - 1);
+        fitnessCalculated = false;
+    }
+
+    //Index word yang berisi gen ke-index
+    private int wordOfGene(int index) {
+        int row = index / width;
+        return row * wordsPerRow + ((index - row * width) >>> 6);
+    }
+
+    //Mask bit word ke-w yang berada di dalam index gen [from, to)
+    private long segmentMask(int w, int from, int to) {
+        int row = w / wordsPerRow;
+        int base = row * width + ((w - row * wordsPerRow) << 6);
+        int lo = Math.max(0, Math.min(64, from - base));
+        int hi = Math.max(0, Math.min(64, to - base));
+        if (lo >= hi) {
+            return 0L;
+        }
+        long upper = (hi == 64) ? -1L : (1L << hi) - 1;
+        return upper & (-1L << lo) & getWordMask(w);
+    }
+
+    //Menyalin gen dari kromosom lain dengan ukuran yang sama (tanpa alokasi)
+    public void copyGenesFrom(Chromosome other) {
+        System.arraycopy(other.words, other.offset, words, offset, wordCount);
+        fitnessCalculated = false;
+        fitnessState = (other.fitnessState != null) ? other.fitnessState.copy() : null;
+    }
+
+    //Menyalin seluruh isi kromosom lain (gen, fitness, state) ke kromosom ini tanpa alokasi baru
+    //jika state incremental keduanya memakai fitness function yang sama
+    public void copyFrom(Chromosome other) {
+        System.arraycopy(other.words, other.offset, words, offset, wordCount);
+        fitness = other.fitness;
+        fitnessCalculated = other.fitnessCalculated;
+        if (other.fitnessState == null) {
+            fitnessState = null;
+        } else if (fitnessState != null && fitnessState.owner == other.fitnessState.owner) {
+            fitnessState.copyFrom(other.fitnessState);
+        } else {
+            fitnessState = other.fitnessState.copy();
+        }
     }
     
+    //Menghitung jumlah sel hitam pada seluruh papan
+    public int countBlack() {
+        int count = 0;
+        for (int w = offset; w < offset + wordCount; w++) {
+            count += Long.bitCount(words[w]);
+        }
+        return count;
+    }
+
+    //Menghitung Hamming distance dengan kromosom lain secara word-level
+    public int hammingDistance(Chromosome other) {
+        int distance = 0;
+        for (int w = 0; w < wordCount; w++) {
+            distance += Long.bitCount(words[offset + w] ^ other.words[other.offset + w]);
+        }
+        return distance;
+    }
+
     //Mendapatkan nilai fitness
     public double getFitness() {
         return fitness;
     }
-    
+
     //Mengatur nilai fitness
     public void setFitness(double fitness) {
         this.fitness = fitness;
         this.fitnessCalculated = true;
     }
-    
+
     //Mengecek apakah fitness sudah dihitung
     public boolean isFitnessCalculated() {
         return fitnessCalculated;
     }
-    
+
+    //Mendapatkan state evaluasi incremental (null jika belum ada)
+    FitnessState getFitnessState() {
+        return fitnessState;
+    }
+
+    //Memasang state evaluasi incremental
+    void setFitnessState(FitnessState fitnessState) {
+        this.fitnessState = fitnessState;
+    }
+
     //Membuat salinan kromosom ini
     public Chromosome clone() {
-        Chromosome clone = new Chromosome(width, height, genes);
+        Chromosome clone = new Chromosome(width, height);
+        System.arraycopy(words, offset, clone.words, 0, wordCount);
         clone.fitness = this.fitness;
         clone.fitnessCalculated = this.fitnessCalculated;
+        clone.fitnessState = (fitnessState != null) ? fitnessState.copy() : null;
         return clone;
     }
-    
+
     //Menghitung jumlah sel hitam di sekitar posisi tertentu (area 3x3)
     public int countBlackNeighbors(int row, int col) {
+        int colStart = Math.max(0, col - 1);
+        int colEnd = Math.min(width - 1, col + 1);
+        int rowStart = Math.max(0, row - 1);
+        int rowEnd = Math.min(height - 1, row + 1);
+
         int count = 0;
-        
-        // Iterasi melalui area 3x3
-        for (int i = row - 1; i <= row + 1; i++) {
-            for (int j = col - 1; j <= col + 1; j++) {
-                if (i >= 0 && i < height && j >= 0 && j < width) {
-                    if (getCell(i, j)) {
-                        count++;
-                    }
-                }
-            }
+        for (int i = rowStart; i <= rowEnd; i++) {
+            count += countBlackInRow(i, colStart, colEnd);
         }
-        
         return count;
     }
-    
+
+    //Menghitung jumlah sel hitam pada baris row untuk kolom colStart..colEnd (inklusif) dengan popcount
+    public int countBlackInRow(int row, int colStart, int colEnd) {
+        int base = offset + row * wordsPerRow;
+        int firstWord = colStart >>> 6;
+        int lastWord = colEnd >>> 6;
+        long startMask = -1L << colStart;
+        long endMask = -1L >>> (63 - (colEnd & 63));
+
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[base + firstWord] & startMask & endMask);
+        }
+
+        int count = Long.bitCount(words[base + firstWord] & startMask);
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            count += Long.bitCount(words[base + w]);
+        }
+        count += Long.bitCount(words[base + lastWord] & endMask);
+        return count;
+    }
+
     //Mencetak kromosom sebagai papan permainan
     public void print() {
-        System.out.println("Chromosome (fitness: " + fitness + "):");
+        print(System.out);
+    }
+
+    //Mencetak kromosom ke output tertentu
+    public void print(PrintStream out) {
+        out.println("Chromosome (fitness: " + fitness + "):");
         for (int i = 0; i < height; i++) {
             for (int j = 0; j < width; j++) {
-                System.out.print(getCell(i, j) ? "1 " : "0 ");
+                out.print(getCell(i, j) ? "1 " : "0 ");
             }
-            System.out.println();
+            out.println();
         }
     }
 }
-
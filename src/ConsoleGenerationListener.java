@@ -0,0 +1,76 @@
+import java.io.PrintStream;
+
+/**
+ * Listener yang mencetak progress GA ke console (atau PrintStream lain).
+ * Dipasang otomatis oleh ImprovedGeneticAlgorithm selama verbose aktif.
+ */
+public class ConsoleGenerationListener implements GenerationListener {
+    private PrintStream out;
+
+    //Constructor
+    public ConsoleGenerationListener(PrintStream out) {
+        this.out = out;
+    }
+
+    //Mengganti tujuan output
+    public void setOutput(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onStart(GenerationMetrics initial) {
+        // Print fitness awal
+        out.println("Initial population fitness range:");
+        out.println("  Best: " + String.format("%.2f", initial.getBestFitness()));
+        out.println("  Worst: " + String.format("%.2f", initial.getWorstFitness()));
+        out.println("  Median: " + String.format("%.2f", initial.getMedianFitness()));
+
+        out.println("\n=== Improved Genetic Algorithm (Pure GA with Enhancements) ===");
+        out.println("Enhancements: Weighted Fitness, Advanced Heuristics, Anti-Stagnation Mechanisms");
+        out.println("Generation 0 - Best: " + String.format("%.2f", initial.getBestFitness()) +
+            " - Avg: " + String.format("%.2f", initial.getAverageFitness()) +
+            " - Diversity: " + String.format("%.3f", initial.getDiversity()));
+    }
+
+    @Override
+    public void onGeneration(GenerationMetrics metrics) {
+        if (metrics.isEarlyStopped()) {
+            out.println("\n[Early Stop] Stopping early due to low progress probability");
+            out.println("  Best Fitness: " + String.format("%.2f", metrics.getBestFitness()));
+            out.println("  Improvement Rate: " + String.format("%.6f", metrics.getImprovementRate()));
+            out.println("  Diversity: " + String.format("%.3f", metrics.getDiversity()));
+            return;
+        }
+
+        if (metrics.getEscapeType() != GenerationMetrics.EscapeType.NONE) {
+            out.println("\n[Stagnation " + metrics.getEscapeStagnation() + "] Applying Exploration focused escape mechanism...");
+        }
+
+        // Print progress dengan adaptive parameters info
+        if (metrics.getGeneration() % 10 == 0 || metrics.isSolutionFound()) {
+            int stagnationCount = metrics.getStagnationCount();
+            String stagIndicator = (stagnationCount > 0) ? " [Stag:" + stagnationCount + "]" : "";
+            String improvementInfo = String.format(" [ImpRate:%.4f]", metrics.getImprovementRate());
+            out.println("Gen " + metrics.getGeneration() +
+                " - Best: " + String.format("%.2f", metrics.getBestFitness()) +
+                " - Avg: " + String.format("%.2f", metrics.getAverageFitness()) +
+                " - Div: " + String.format("%.3f", metrics.getDiversity()) +
+                improvementInfo + stagIndicator);
+        }
+
+        if (metrics.isSolutionFound()) {
+            out.println("\n*** SOLUTION FOUND at generation " + metrics.getGeneration() + "! ***");
+        }
+    }
+
+    @Override
+    public void onFinish(GenerationMetrics last) {
+        out.println("\n=== Results ===");
+        out.println("Final Generation: " + last.getGeneration());
+        out.println("Best Fitness: " + String.format("%.2f", last.getBestFitness()));
+        out.println("Solution Found: " + (last.isSolutionFound() ? "YES" : "NO"));
+        if (last.getEscapeAttempts() > 0) {
+            out.println("Escape Attempts: " + last.getEscapeAttempts());
+        }
+    }
+}
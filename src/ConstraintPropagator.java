@@ -0,0 +1,318 @@
+/**
+ * Engine propagasi constraint dengan domain sel tiga nilai: unknown, hitam, putih.
+ *
+ * Status sel disimpan sebagai dua bitboard (layout row-aligned sama dengan Chromosome):
+ * known = sel sudah ditentukan, black = sel ditentukan hitam. Setiap hint menyimpan jumlah
+ * sel hitam dan unknown di area 3x3-nya, dan hanya hint yang salah satu selnya berubah
+ * yang masuk worklist (dirty), sehingga fixpoint dicapai dalam waktu hampir linear.
+ *
+ * Aturan:
+ * - Kardinalitas (generalisasi pola 0/9 dan pola tepi/sudut di Heuristics):
+ *   hitam == nilai hint -> semua unknown putih; hitam + unknown == nilai hint -> semua unknown hitam
+ * - Pasangan hint overlapping: batas jumlah hitam di irisan dua area memaksa sel di irisan
+ *   atau di bagian yang hanya milik satu hint
+ * - Konflik (hitam > nilai atau hitam + unknown < nilai) dideteksi saat sel diisi
+ *
+ * Setiap assign dicatat di trail sehingga bisa di-undo (dipakai BacktrackingSolver).
+ * Setelah propagate() pada propagator baru, sel yang known adalah sel yang dipaksa
+ * oleh puzzle (forced) dan bisa dipakai untuk seed atau pin kromosom GA.
+ */
+public class ConstraintPropagator {
+    private final HintIndex hints;
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    
+    //Bitboard status sel
+    private final long[] known;
+    private final long[] black;
+    
+    //Jumlah sel hitam dan unknown di area 3x3 setiap hint
+    private final int[] blackCount;
+    private final int[] unknownCount;
+    
+    //Trail sel yang sudah diisi (urutan assign, untuk undo)
+    private final int[] trail;
+    private int trailSize;
+    
+    //Worklist hint yang perlu dipropagasi
+    private final int[] queue;
+    private int queueSize;
+    private final boolean[] queued;
+    
+    //Constructor: semua sel unknown, semua hint masuk worklist
+    public ConstraintPropagator(Puzzle puzzle) {
+        hints = puzzle.getHintIndex();
+        width = puzzle.getWidth();
+        height = puzzle.getHeight();
+        wordsPerRow = Chromosome.wordsPerRow(width);
+        known = new long[wordsPerRow * height];
+        black = new long[wordsPerRow * height];
+        
+        int hintCount = hints.getHintCount();
+        blackCount = new int[hintCount];
+        unknownCount = new int[hintCount];
+        queue = new int[hintCount];
+        queued = new boolean[hintCount];
+        trail = new int[width * height];
+        
+        for (int h = 0; h < hintCount; h++) {
+            unknownCount[h] = hints.getNeighborCount(h);
+            enqueue(h);
+        }
+    }
+    
+    //Propagasi sampai fixpoint (worklist kosong); false jika terjadi konflik
+    public boolean propagate() {
+        while (queueSize > 0) {
+            int h = queue[--queueSize];
+            queued[h] = false;
+            
+            int unknown = unknownCount[h];
+            int remaining = hints.getValue(h) - blackCount[h];
+            if (remaining < 0 || remaining > unknown) {
+                clearQueue();
+                return false;
+            }
+            if (unknown == 0) {
+                continue;
+            }
+            
+            boolean consistent;
+            if (remaining == 0 || remaining == unknown) {
+                // Semua sel unknown di area hint dipaksa ke satu warna
+                consistent = fillArea(h, -1, remaining != 0);
+            } else {
+                consistent = propagatePairs(h);
+            }
+            if (!consistent) {
+                clearQueue();
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    //Aturan pasangan untuk hint h dan setiap hint overlapping o. Sel unknown dibagi menjadi
+    //hanya-h, irisan, dan hanya-o; batas jumlah hitam di irisan bisa memaksa salah satu bagian.
+    private boolean propagatePairs(int h) {
+        for (int k = hints.overlapsBegin(h); k < hints.overlapsEnd(h); k++) {
+            int o = hints.overlapAt(k);
+            if (unknownCount[o] == 0 || unknownCount[h] == 0) {
+                continue;
+            }
+            
+            int both = countUnknownShared(h, o);
+            int onlyH = unknownCount[h] - both;
+            int onlyO = unknownCount[o] - both;
+            int needH = hints.getValue(h) - blackCount[h];
+            int needO = hints.getValue(o) - blackCount[o];
+            
+            // Batas jumlah hitam di irisan
+            int low = Math.max(0, Math.max(needH - onlyH, needO - onlyO));
+            int high = Math.min(both, Math.min(needH, needO));
+            if (low > high) {
+                return false;
+            }
+            
+            if (both > 0 && low == both && !fillShared(h, o, true)) {
+                return false;
+            }
+            if (both > 0 && high == 0 && !fillShared(h, o, false)) {
+                return false;
+            }
+            if (onlyH > 0 && needH - high == onlyH && !fillArea(h, o, true)) {
+                return false;
+            }
+            if (onlyH > 0 && needH - low == 0 && !fillArea(h, o, false)) {
+                return false;
+            }
+            if (onlyO > 0 && needO - high == onlyO && !fillArea(o, h, true)) {
+                return false;
+            }
+            if (onlyO > 0 && needO - low == 0 && !fillArea(o, h, false)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    //Mengisi semua sel unknown di area hint h yang tidak termasuk area hint exclude (-1 = semua)
+    private boolean fillArea(int h, int exclude, boolean value) {
+        int row = hints.getRow(h);
+        int col = hints.getCol(h);
+        for (int r = Math.max(0, row - 1); r <= Math.min(height - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(width - 1, col + 1); c++) {
+                if (!isKnown(r, c) && (exclude < 0 || !inArea(exclude, r, c)) && !assign(r * width + c, value)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    //Mengisi semua sel unknown di irisan area hint h dan o
+    private boolean fillShared(int h, int o, boolean value) {
+        int row = hints.getRow(h);
+        int col = hints.getCol(h);
+        for (int r = Math.max(0, row - 1); r <= Math.min(height - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(width - 1, col + 1); c++) {
+                if (!isKnown(r, c) && inArea(o, r, c) && !assign(r * width + c, value)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    //Jumlah sel unknown di irisan area hint h dan o
+    private int countUnknownShared(int h, int o) {
+        int row = hints.getRow(h);
+        int col = hints.getCol(h);
+        int count = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(height - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(width - 1, col + 1); c++) {
+                if (!isKnown(r, c) && inArea(o, r, c)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+    
+    //Apakah sel (r, c) berada di area 3x3 hint h
+    private boolean inArea(int h, int r, int c) {
+        return Math.abs(hints.getRow(h) - r) <= 1 && Math.abs(hints.getCol(h) - c) <= 1;
+    }
+    
+    //Mengisi sel dan memperbarui hint yang mencakupnya; false jika ada hint yang jadi tidak mungkin
+    public boolean assign(int cell, boolean value) {
+        int row = cell / width;
+        int col = cell - row * width;
+        int w = row * wordsPerRow + (col >>> 6);
+        long bit = 1L << col;
+        known[w] |= bit;
+        if (value) {
+            black[w] |= bit;
+        }
+        trail[trailSize++] = cell;
+        
+        boolean consistent = true;
+        for (int k = hints.cellHintsBegin(cell); k < hints.cellHintsEnd(cell); k++) {
+            int h = hints.cellHintAt(k);
+            unknownCount[h]--;
+            if (value) {
+                blackCount[h]++;
+            }
+            int remaining = hints.getValue(h) - blackCount[h];
+            if (remaining < 0 || remaining > unknownCount[h]) {
+                consistent = false;
+            }
+            enqueue(h);
+        }
+        return consistent;
+    }
+    
+    //Mengembalikan semua sel yang diisi setelah posisi trail mark
+    public void undo(int mark) {
+        while (trailSize > mark) {
+            int cell = trail[--trailSize];
+            int row = cell / width;
+            int col = cell - row * width;
+            int w = row * wordsPerRow + (col >>> 6);
+            long bit = 1L << col;
+            boolean value = (black[w] & bit) != 0;
+            known[w] &= ~bit;
+            black[w] &= ~bit;
+            
+            for (int k = hints.cellHintsBegin(cell); k < hints.cellHintsEnd(cell); k++) {
+                int h = hints.cellHintAt(k);
+                unknownCount[h]++;
+                if (value) {
+                    blackCount[h]--;
+                }
+            }
+        }
+    }
+    
+    //Apakah sel (row, col) sudah ditentukan
+    public boolean isKnown(int row, int col) {
+        return (known[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+    
+    private void enqueue(int h) {
+        if (!queued[h]) {
+            queued[h] = true;
+            queue[queueSize++] = h;
+        }
+    }
+    
+    private void clearQueue() {
+        while (queueSize > 0) {
+            queued[queue[--queueSize]] = false;
+        }
+    }
+    
+    //Jumlah sel yang sudah ditentukan (posisi trail saat ini)
+    public int getTrailSize() {
+        return trailSize;
+    }
+    
+    //Apakah sel (row, col) ditentukan hitam
+    public boolean isBlack(int row, int col) {
+        return (black[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+    
+    //Jumlah sel hitam yang sudah ditentukan di area hint h
+    public int getBlackCount(int h) {
+        return blackCount[h];
+    }
+    
+    //Jumlah sel unknown di area hint h
+    public int getUnknownCount(int h) {
+        return unknownCount[h];
+    }
+    
+    //Index hint puzzle
+    public HintIndex getHintIndex() {
+        return hints;
+    }
+    
+    //Salinan bitboard sel yang sudah ditentukan (layout Chromosome)
+    public long[] getKnownWords() {
+        return known.clone();
+    }
+    
+    //Salinan bitboard sel yang ditentukan hitam (layout Chromosome)
+    public long[] getBlackWords() {
+        return black.clone();
+    }
+    
+    //Kromosom dengan semua sel hitam yang sudah ditentukan (sel lain putih)
+    public Chromosome toChromosome() {
+        return new Chromosome(width, height, black);
+    }
+    
+    //Menulis semua sel yang sudah ditentukan ke kromosom (sel unknown tidak diubah).
+    //Hanya sel yang berbeda yang di-set, sehingga state fitness incremental tetap terpakai.
+    public void applyTo(Chromosome chromosome) {
+        for (int w = 0; w < known.length; w++) {
+            long diff = (chromosome.getWord(w) ^ black[w]) & known[w];
+            while (diff != 0) {
+                int bit = Long.numberOfTrailingZeros(diff);
+                int col = (w % wordsPerRow) * 64 + bit;
+                chromosome.setCell(w / wordsPerRow, col, (black[w] & (1L << bit)) != 0);
+                diff &= diff - 1;
+            }
+        }
+    }
+    
+    //Jumlah sel di kromosom yang berbeda dari sel yang sudah ditentukan
+    public int countViolations(Chromosome chromosome) {
+        int count = 0;
+        for (int w = 0; w < known.length; w++) {
+            count += Long.bitCount((chromosome.getWord(w) ^ black[w]) & known[w]);
+        }
+        return count;
+    }
+}
@@ -3,5 +3,14 @@ import java.util.Random;
 public interface CrossoverStrategy {
     //Melakukan crossover antara dua parent untuk menghasilkan offspring
     Chromosome[] crossover(Chromosome parent1, Chromosome parent2, Random random);
+    
+    //Crossover yang menulis hasil ke dua kromosom yang sudah ada (child tidak boleh sama dengan parent).
+    //Default memakai crossover() lalu menyalin gen, strategi sebaiknya override agar tanpa alokasi.
+    default void crossoverInto(Chromosome parent1, Chromosome parent2,
+                               Chromosome child1, Chromosome child2, Random random) {
+        Chromosome[] offspring = crossover(parent1, parent2, random);
+        child1.copyGenesFrom(offspring[0]);
+        child2.copyGenesFrom(offspring[1]);
+    }
 }
 
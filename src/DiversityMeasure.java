@@ -1,62 +1,14 @@
 public class DiversityMeasure {
     
     //Menghitung diversity populasi menggunakan Hamming Distance
+    //Rata-rata Hamming distance semua pasangan dihitung persis dari jumlah alel per lokus, O(n * L)
     public static double calculateDiversity(Chromosome[] population) {
-        if (population.length < 2) {
+        if (population.length < 2 || population[0].getLength() == 0) {
             return 0.0;
         }
         
-        int maxSamples = 300; //untuk menghindari O(n²)
-        boolean useSampling = (population.length > 100); //untuk populasi besar
-        
-        long totalHammingDistance = 0;
-        long totalComparisons = 0;
-        
-        if (useSampling && population.length > 1) { //untuk populasi besar
-            // Sample-based diversity
-            java.util.Random random = new java.util.Random();
-            int samples = Math.min(maxSamples, population.length * (population.length - 1) / 2);
-            
-            for (int s = 0; s < samples; s++) {
-                int i = random.nextInt(population.length);
-                int j = random.nextInt(population.length);
-                if (i != j) {
-                    int hammingDistance = calculateHammingDistance(population[i], population[j]);
-                    totalHammingDistance += hammingDistance;
-                    totalComparisons++;
-                }
-            }
-        } else {
-            // Hitung Hamming Distance antara semua pasangan kromosom (untuk populasi kecil)
-            for (int i = 0; i < population.length; i++) {
-                for (int j = i + 1; j < population.length; j++) {
-                    int hammingDistance = calculateHammingDistance(population[i], population[j]);
-                    totalHammingDistance += hammingDistance;
-                    totalComparisons++;
-                }
-            }
-        }
-        
         // Normalisasi: diversity = rata-rata hamming distance / panjang kromosom
-        if (totalComparisons == 0 || population[0].getLength() == 0) {
-            return 0.0;
-        }
-        
-        double avgHammingDistance = (double) totalHammingDistance / totalComparisons;
-        double maxPossibleDistance = population[0].getLength();
-        
-        return avgHammingDistance / maxPossibleDistance;
-    }
-    
-    //Menghitung Hamming Distance antara dua kromosom
-    private static int calculateHammingDistance(Chromosome c1, Chromosome c2) {
-        int distance = 0;
-        for (int i = 0; i < c1.getLength(); i++) {
-            if (c1.getGene(i) != c2.getGene(i)) {
-                distance++;
-            }
-        }
-        return distance;
+        return new LocusDiversity(population).getDiversity();
     }
     
     //Menghitung fitness diversity (standar deviasi fitness)
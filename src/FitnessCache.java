@@ -0,0 +1,275 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache fitness berukuran tetap, dengan key hash 64-bit dari genom kromosom.
+ *
+ * Cara kerja:
+ * - Hash 64-bit dihitung dari word-word genom (mixing per word + finalizer murmur3)
+ * - Cache dibagi menjadi beberapa segment berdasarkan bit teratas hash; setiap segment
+ *   punya lock sendiri, sehingga evaluasi paralel (ParallelEvaluator) jarang saling menunggu
+ * - Index hash table per segment berupa chaining dengan array int (head per bucket, next per entry)
+ * - Setiap entry menyimpan salinan genom; hit hanya jika hash DAN genom sama persis,
+ *   sehingga collision hash tidak pernah menghasilkan fitness yang salah
+ * - Jika segment penuh, entry dibuang dengan algoritma CLOCK (second chance): jarum berputar
+ *   dan melewati entry yang baru dipakai sekali sebelum membuangnya
+ *
+ * Fitness hanya bergantung pada genom, jadi nilai dari cache identik dengan hasil
+ * evaluasi ulang. Aman dipakai bersamaan dari banyak thread; counter memakai LongAdder.
+ */
+public class FitnessCache {
+    //Kapasitas minimum per segment sebelum cache dibagi lagi
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final int capacity;
+    private final int wordCount;
+
+    //Segment dipilih dari bit teratas hash (jumlah segment pangkat 2)
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    //Counter (tanpa lock)
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    //Constructor: capacity entry untuk genom berukuran width x height
+    public FitnessCache(int capacity, int width, int height) {
+        this(capacity, width, height, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    //Constructor dengan jumlah segment maksimal tertentu (dibulatkan ke pangkat 2)
+    public FitnessCache(int capacity, int width, int height, int maxSegments) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        this.capacity = capacity;
+        this.wordCount = Chromosome.wordsPerRow(width) * height;
+
+        long genomeWords = (long) capacity * wordCount;
+        if (genomeWords > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Fitness cache too large: " + capacity + " entries x "
+                + wordCount + " genome words = " + genomeWords + " words (max " + Integer.MAX_VALUE
+                + "); use a smaller --cache size");
+        }
+
+        int count = Integer.highestOneBit(Math.max(1, Math.min(maxSegments, capacity / MIN_SEGMENT_CAPACITY)));
+
+        this.segments = new Segment[count];
+        for (int s = 0; s < count; s++) {
+            // Sisa capacity dibagi rata, total kapasitas semua segment = capacity
+            int segmentCapacity = capacity / count + ((s < capacity % count) ? 1 : 0);
+            segments[s] = new Segment(segmentCapacity);
+        }
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(count);
+    }
+
+    //Fitness yang tersimpan untuk genom kromosom, atau NaN jika tidak ada
+    public double get(Chromosome chromosome) {
+        checkSize(chromosome);
+        lookups.increment();
+        long hash = hash(chromosome);
+        double value = segmentFor(hash).get(hash, chromosome);
+        if (!Double.isNaN(value)) {
+            hits.increment();
+        }
+        return value;
+    }
+
+    //Menyimpan fitness genom kromosom (menimpa jika genom sudah ada)
+    public void put(Chromosome chromosome, double value) {
+        checkSize(chromosome);
+        long hash = hash(chromosome);
+        segmentFor(hash).put(hash, chromosome, value);
+    }
+
+    //Menghapus semua entry (counter tidak di-reset)
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segmentFor(long hash) {
+        return (segments.length == 1) ? segments[0] : segments[(int) (hash >>> segmentShift)];
+    }
+
+    private void checkSize(Chromosome chromosome) {
+        if (chromosome.getWordCount() != wordCount) {
+            throw new IllegalArgumentException("Chromosome size does not match cache genome size");
+        }
+    }
+
+    //Hash 64-bit genom: mixing per word lalu finalizer fmix64 (murmur3)
+    static long hash(Chromosome chromosome) {
+        long h = 0x9E3779B97F4A7C15L;
+        int words = chromosome.getWordCount();
+        for (int w = 0; w < words; w++) {
+            h = Long.rotateLeft(h ^ (chromosome.getWord(w) * 0xC2B2AE3D27D4EB4FL), 31) * 0x9E3779B97F4A7C15L;
+        }
+        h ^= words;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public int getCapacity() { return capacity; }
+    public int getSegmentCount() { return segments.length; }
+    public long getLookups() { return lookups.sum(); }
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return lookups.sum() - hits.sum(); }
+    public long getCollisions() { return collisions.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+
+    //Jumlah entry yang tersimpan di semua segment
+    public int getSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.getSize();
+        }
+        return size;
+    }
+
+    //Persentase lookup yang hit (0..1)
+    public double getHitRate() {
+        long total = lookups.sum();
+        return (total > 0) ? (double) hits.sum() / total : 0.0;
+    }
+
+    /**
+     * Satu segment cache: hash table chaining + CLOCK dengan lock sendiri.
+     */
+    private final class Segment {
+        private final int capacity;
+
+        //Hash table: head[bucket] = entry pertama (-1 = kosong), next[entry] = entry berikutnya
+        private final int[] head;
+        private final int[] next;
+        private final int bucketMask;
+
+        //Data per entry
+        private final long[] hashes;
+        private final long[] genomes;      // capacity * wordCount word, layout flat
+        private final double[] fitness;
+        private final boolean[] referenced;
+        private int size;
+        private int hand;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            int buckets = Integer.highestOneBit(Math.max(1, capacity - 1)) << 2;  // load factor <= 0.5
+            this.head = new int[buckets];
+            this.bucketMask = buckets - 1;
+            Arrays.fill(head, -1);
+            this.next = new int[capacity];
+            this.hashes = new long[capacity];
+            this.genomes = new long[capacity * wordCount];
+            this.fitness = new double[capacity];
+            this.referenced = new boolean[capacity];
+        }
+
+        synchronized double get(long hash, Chromosome chromosome) {
+            int entry = find(hash, chromosome);
+            if (entry < 0) {
+                return Double.NaN;
+            }
+            referenced[entry] = true;
+            return fitness[entry];
+        }
+
+        synchronized void put(long hash, Chromosome chromosome, double value) {
+            int entry = find(hash, chromosome);
+            if (entry >= 0) {
+                fitness[entry] = value;
+                referenced[entry] = true;
+                return;
+            }
+
+            if (size < capacity) {
+                entry = size++;
+            } else {
+                entry = evict();
+            }
+
+            hashes[entry] = hash;
+            int base = entry * wordCount;
+            for (int w = 0; w < wordCount; w++) {
+                genomes[base + w] = chromosome.getWord(w);
+            }
+            fitness[entry] = value;
+            referenced[entry] = false;
+
+            int bucket = bucket(hash);
+            next[entry] = head[bucket];
+            head[bucket] = entry;
+        }
+
+        synchronized void clear() {
+            Arrays.fill(head, -1);
+            size = 0;
+            hand = 0;
+        }
+
+        synchronized int getSize() {
+            return size;
+        }
+
+        //Mencari entry dengan hash dan genom yang sama (-1 jika tidak ada)
+        private int find(long hash, Chromosome chromosome) {
+            for (int entry = head[bucket(hash)]; entry >= 0; entry = next[entry]) {
+                if (hashes[entry] != hash) {
+                    continue;
+                }
+                if (sameGenome(entry, chromosome)) {
+                    return entry;
+                }
+                // Hash 64-bit sama tetapi genom berbeda
+                collisions.increment();
+            }
+            return -1;
+        }
+
+        //CLOCK: entry yang referenced diberi kesempatan kedua, entry pertama yang tidak referenced dibuang
+        private int evict() {
+            while (referenced[hand]) {
+                referenced[hand] = false;
+                hand = (hand + 1 == capacity) ? 0 : hand + 1;
+            }
+            int victim = hand;
+            hand = (hand + 1 == capacity) ? 0 : hand + 1;
+
+            // Lepas victim dari chain bucket-nya
+            int bucket = bucket(hashes[victim]);
+            if (head[bucket] == victim) {
+                head[bucket] = next[victim];
+            } else {
+                int entry = head[bucket];
+                while (next[entry] != victim) {
+                    entry = next[entry];
+                }
+                next[entry] = next[victim];
+            }
+            evictions.increment();
+            return victim;
+        }
+
+        private boolean sameGenome(int entry, Chromosome chromosome) {
+            int base = entry * wordCount;
+            for (int w = 0; w < wordCount; w++) {
+                if (genomes[base + w] != chromosome.getWord(w)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        //Bucket dari bit bawah hash (bit teratas sudah dipakai untuk memilih segment)
+        private int bucket(long hash) {
+            return (int) hash & bucketMask;
+        }
+    }
+}
@@ -1,51 +1,254 @@
+/**
+ * Fitness function untuk Mosaic Puzzle (0 = solusi sempurna).
+ * Semua tabel (hint weights, error terms) dihitung di constructor dan tidak berubah,
+ * sehingga calculateFitness aman dipanggil bersamaan dari banyak thread selama
+ * setiap thread mengevaluasi kromosom yang berbeda.
+ */
 public class FitnessFunction {
-    private Puzzle puzzle;
+    private final Puzzle puzzle;
     
-    //Cache untuk hint weights
-    private double[] hintWeights;
+    //Hint weights (dihitung sekali di constructor, read-only setelahnya)
+    private final double[] hintWeights;
     
-    //Status weights
-    private boolean weightsCalculated;
+    //Mode evaluasi incremental (state per kromosom diperbarui O(9) setiap flip gen)
+    private volatile boolean incremental;
+    
+    //Index hint puzzle (immutable, dibangun sekali oleh Puzzle)
+    private final HintIndex hintIndex;
+    
+    //Tabel weighted error: errorTerms[h][e] = weighted error hint h untuk local error e
+    private final double[][] errorTerms;
+    
+    //Satuan tetap komponen fitness di FitnessState: weightedError * ERROR_UNIT dan
+    //pairPenalty * PENALTY_UNIT selalu bilangan bulat (weight = (5 + overlap) / 5)
+    static final int ERROR_UNIT = 25;
+    static final int PENALTY_UNIT = 20;
+    
+    //Tabel weighted error dalam satuan 1/ERROR_UNIT untuk evaluasi incremental
+    private final long[][] errorUnitTerms;
+    
+    //Cache fitness per genom untuk evaluasi penuh (null = tidak aktif)
+    private volatile FitnessCache cache;
+    
+    //Buffer box sum 3x3 per thread untuk papan besar dengan hint padat (null = hitung per hint)
+    private final ThreadLocal<NeighborCountGrid> neighborGrids;
     
     //Constructor
     public FitnessFunction(Puzzle puzzle) {
         this.puzzle = puzzle;
-        this.weightsCalculated = false;
+        this.hintIndex = puzzle.getHintIndex();
+        this.hintWeights = calculateHintWeights(hintIndex);
+        this.errorTerms = buildErrorTerms();
+        this.errorUnitTerms = buildErrorUnitTerms();
+        this.incremental = false;
+        this.neighborGrids = NeighborCountGrid.isWorthwhile(puzzle.getWidth(), puzzle.getHeight(), hintIndex.getHintCount())
+            ? ThreadLocal.withInitial(() -> new NeighborCountGrid(puzzle.getWidth(), puzzle.getHeight()))
+            : null;
+    }
+    
+    //Mengaktifkan/menonaktifkan mode evaluasi incremental
+    public void setIncrementalEvaluation(boolean incremental) {
+        this.incremental = incremental;
+    }
+    
+    public boolean isIncrementalEvaluation() {
+        return incremental;
+    }
+    
+    //Memasang cache fitness (null = tanpa cache). Hanya dipakai untuk evaluasi penuh,
+    //karena mode incremental sudah mengambil error per hint dari state tanpa menghitung ulang papan.
+    public void setCache(FitnessCache cache) {
+        this.cache = cache;
+    }
+    
+    public FitnessCache getCache() {
+        return cache;
+    }
+    
+    //Jumlah hint pada puzzle
+    int getHintCount() {
+        return hintIndex.getHintCount();
+    }
+    
+    //Index hint puzzle yang dievaluasi
+    HintIndex getHintIndex() {
+        return hintIndex;
     }
     
     //Menghitung weight untuk setiap hint berdasarkan kompleksitas
-    private void calculateHintWeights() {
-        if (weightsCalculated) {
-            return;
+    private static double[] calculateHintWeights(HintIndex hintIndex) {
+        double[] hintWeights = new double[hintIndex.getHintCount()];
+        
+        // Hitung weight berdasarkan jumlah hints yang overlapping (hints di daerah padat mendapat weight lebih tinggi)
+        for (int i = 0; i < hintWeights.length; i++) {
+            // Hints dengan lebih banyak overlapping mendapat weight lebih tinggi
+            hintWeights[i] = 1.0 + (hintIndex.getOverlapCount(i) * 0.2);
         }
         
-        int[][] hints = puzzle.getHintPositions();
-        hintWeights = new double[hints.length];
+        return hintWeights;
+    }
+    
+    //Weighted error untuk satu hint: weight * error, dengan quadratic penalty untuk error besar
+    private double weightedError(int hint, int localError) {
+        // Apply weight (hints di daerah padat mendapat weight lebih tinggi)
+        double weightedError = localError * hintWeights[hint];
         
-        // Hitung weight berdasarkan jumlah hints yang overlapping (hints di daerah padat mendapat weight lebih tinggi)
-        for (int i = 0; i < hints.length; i++) {
-            int row = hints[i][0];
-            int col = hints[i][1];
-            
-            // Hitung berapa banyak hints yang overlapping dengan hint ini
-            int overlappingCount = 0;
-            for (int j = 0; j < hints.length; j++) {
-                if (i != j) {
-                    int otherRow = hints[j][0];
-                    int otherCol = hints[j][1];
-                    
-                    // Cek apakah overlapping (area 3x3 mereka berpotongan)
-                    if (Math.abs(row - otherRow) <= 2 && Math.abs(col - otherCol) <= 2) {
-                        overlappingCount++;
-                    }
-                }
+        // Quadratic penalty untuk error besar
+        if (localError > 1) {
+            weightedError *= (1.0 + (localError - 1) * 0.6);
+        }
+        return weightedError;
+    }
+    
+    //Penalty untuk sepasang hint overlapping dengan error error1 dan error2
+    static double pairPenalty(int error1, int error2) {
+        double penalty = 0.0;
+        if (error1 > 1 && error2 > 1) {
+            int errorDiff = Math.abs(error1 - error2);
+            penalty += errorDiff * 0.15;
+        }
+        if (error1 + error2 > 4) {
+            penalty += (error1 + error2 - 4) * 0.1;
+        }
+        return penalty;
+    }
+    
+    //pairPenalty dalam satuan 1/PENALTY_UNIT (0.15 = 3/20, 0.1 = 2/20)
+    static long pairPenaltyUnits(int error1, int error2) {
+        long units = 0;
+        if (error1 > 1 && error2 > 1) {
+            units += 3L * Math.abs(error1 - error2);
+        }
+        if (error1 + error2 > 4) {
+            units += 2L * (error1 + error2 - 4);
+        }
+        return units;
+    }
+    
+    //Batas total error di mana inconsistency penalty mulai dihitung
+    private static double fitnessThreshold(int hintCount) {
+        return (hintCount > 15) ? 100.0 : 50.0;
+    }
+    
+    //Menggabungkan komponen error menjadi nilai fitness akhir
+    private double combineFitness(double totalError, double inconsistencyPenalty, int correctHints, int hintCount) {
+        // Penalty untuk hints yang overlapping dan tidak konsisten
+        if (totalError < fitnessThreshold(hintCount)) {
+            totalError += inconsistencyPenalty;
+        }
+        
+        // Bonus untuk hints yang benar
+        double bonus = correctHints * 0.01;
+        if (correctHints > hintCount * 0.5) {
+            bonus += (correctHints - hintCount * 0.5) * 0.02;
+        }
+        return Math.max(0.0, totalError - bonus);
+    }
+    
+    //Membangun tabel weighted error per hint dan per nilai local error (0..9)
+    private double[][] buildErrorTerms() {
+        double[][] terms = new double[hintIndex.getHintCount()][10];
+        for (int h = 0; h < terms.length; h++) {
+            for (int e = 0; e < 10; e++) {
+                terms[h][e] = weightedError(h, e);
+            }
+        }
+        return terms;
+    }
+    
+    //Tabel weighted error dalam satuan 1/ERROR_UNIT:
+    //(1 + 0.2 * overlap) * e * (1 + 0.6 * (e - 1)) = (5 + overlap) * e * (2 + 3e) / 25
+    private long[][] buildErrorUnitTerms() {
+        long[][] terms = new long[hintIndex.getHintCount()][10];
+        for (int h = 0; h < terms.length; h++) {
+            long weight = 5 + hintIndex.getOverlapCount(h);
+            for (int e = 0; e < 10; e++) {
+                terms[h][e] = weight * e * (2 + 3 * e);
+            }
+        }
+        return terms;
+    }
+    
+    //Memastikan kromosom memiliki FitnessState milik fitness function ini
+    private FitnessState ensureState(Chromosome chromosome) {
+        FitnessState state = chromosome.getFitnessState();
+        if (state == null || state.owner != this) {
+            state = new FitnessState(this);
+            chromosome.setFitnessState(state);
+            rebuildState(state, chromosome);
+        }
+        return state;
+    }
+    
+    //Menghitung ulang seluruh state dari gen kromosom
+    void rebuildState(FitnessState state, Chromosome chromosome) {
+        int hintCount = hintIndex.getHintCount();
+        long errorUnits = 0;
+        int correct = 0;
+        countBlackNeighbors(chromosome, state.counts);
+        for (int h = 0; h < hintCount; h++) {
+            int error = Math.abs(hintIndex.getValue(h) - state.counts[h]);
+            state.errors[h] = error;
+            errorUnits += errorUnitTerms[h][error];
+            if (error == 0) {
+                correct++;
+            }
+        }
+        long penaltyUnits = 0;
+        for (int p = 0; p < hintIndex.getPairCount(); p++) {
+            penaltyUnits += pairPenaltyUnits(state.errors[hintIndex.getPairFirst(p)], state.errors[hintIndex.getPairSecond(p)]);
+        }
+        state.errorUnits = errorUnits;
+        state.penaltyUnits = penaltyUnits;
+        state.correctHints = correct;
+    }
+    
+    //Memperbarui state untuk satu sel yang berubah warna: O(hint yang mencakup sel × overlap).
+    //Semua komponen integer, sehingga update ini eksak dan bisa dibatalkan dengan flip sebaliknya.
+    void applyCellChange(FitnessState state, int cell, boolean black) {
+        int delta = black ? 1 : -1;
+        int end = hintIndex.cellHintsEnd(cell);
+        for (int k = hintIndex.cellHintsBegin(cell); k < end; k++) {
+            int h = hintIndex.cellHintAt(k);
+            int oldError = state.errors[h];
+            state.counts[h] += delta;
+            int newError = Math.abs(hintIndex.getValue(h) - state.counts[h]);
+            if (newError == oldError) {
+                continue;
+            }
+            state.errors[h] = newError;
+            state.errorUnits += errorUnitTerms[h][newError] - errorUnitTerms[h][oldError];
+            if (oldError == 0) {
+                state.correctHints--;
+            } else if (newError == 0) {
+                state.correctHints++;
+            }
+            int overlapEnd = hintIndex.overlapsEnd(h);
+            for (int p = hintIndex.overlapsBegin(h); p < overlapEnd; p++) {
+                int otherError = state.errors[hintIndex.overlapAt(p)];
+                state.penaltyUnits += pairPenaltyUnits(newError, otherError) - pairPenaltyUnits(oldError, otherError);
             }
-            
-            // Hints dengan lebih banyak overlapping mendapat weight lebih tinggi
-            hintWeights[i] = 1.0 + (overlappingCount * 0.2);
         }
+    }
+    
+    //Perkiraan fitness O(1) dari komponen integer state. Hanya untuk membandingkan flip
+    //(deltaFitness); bisa berbeda beberapa ulp dari evaluasi penuh karena urutan penjumlahan.
+    private double stateFitness(FitnessState state) {
+        return combineFitness((double) state.errorUnits / ERROR_UNIT, (double) state.penaltyUnits / PENALTY_UNIT,
+                              state.correctHints, hintIndex.getHintCount());
+    }
+    
+    //Menghitung perubahan fitness jika gen geneIndex di-flip, tanpa mengubah kromosom.
+    //Hanya bergantung pada gen (bukan riwayat flip), sehingga deterministik di semua mode engine.
+    public double deltaFitness(Chromosome chromosome, int geneIndex) {
+        FitnessState state = ensureState(chromosome);
+        double before = stateFitness(state);
         
-        weightsCalculated = true;
+        boolean black = !chromosome.getGene(geneIndex);
+        applyCellChange(state, geneIndex, black);
+        double after = stateFitness(state);
+        applyCellChange(state, geneIndex, !black);
+        return after - before;
     }
     
     //Menghitung nilai fitness untuk kromosom
@@ -55,100 +258,91 @@ public class FitnessFunction {
             return chromosome.getFitness();
         }
         
-        // Hitung hint weights jika belum dihitung
-        calculateHintWeights();
+        // Mode incremental: error per hint diambil dari state yang diperbarui setiap flip,
+        // lalu dijumlahkan dengan urutan yang sama seperti evaluasi penuh (hasil identik)
+        if (incremental) {
+            double fitness = fitnessFromErrors(ensureState(chromosome).errors);
+            chromosome.setFitness(fitness);
+            return fitness;
+        }
         
-        double totalError = 0.0;
-        int correctHints = 0;
+        // Genom yang sudah pernah dievaluasi (elite, salinan parent, populasi konvergen)
+        FitnessCache cache = this.cache;
+        if (cache != null) {
+            double cached = cache.get(chromosome);
+            if (!Double.isNaN(cached)) {
+                chromosome.setFitness(cached);
+                return cached;
+            }
+        }
         
-        // Dapatkan semua posisi petunjuk
-        int[][] hints = puzzle.getHintPositions();
+        int hintCount = hintIndex.getHintCount();
+        int[] errors = new int[hintCount];
         
-        // Untuk setiap petunjuk, hitung error local dengan weight dan quadratic penalty
-        for (int i = 0; i < hints.length; i++) {
-            int row = hints[i][0];
-            int col = hints[i][1];
-            int expectedValue = hints[i][2]; // N = nilai petunjuk
-            
-            // Hitung jumlah sel hitam di area 3x3 sekitar petunjuk
-            int actualBlackCount = chromosome.countBlackNeighbors(row, col);
-            
-            // Hitung error local: selisih absolut antara expected dan actual
-            int localError = Math.abs(expectedValue - actualBlackCount);
-            
-            // Apply weight (hints di daerah padat mendapat weight lebih tinggi)
-            double weightedError = localError * hintWeights[i];
-            
-            // Quadratic penalty untuk error besar
-            if (localError > 1) {
-                weightedError *= (1.0 + (localError - 1) * 0.6);
+        // Untuk setiap petunjuk, hitung error local: selisih absolut antara nilai petunjuk (N)
+        // dan jumlah sel hitam di area 3x3 sekitar petunjuk
+        countBlackNeighbors(chromosome, errors);
+        for (int i = 0; i < hintCount; i++) {
+            errors[i] = Math.abs(hintIndex.getValue(i) - errors[i]);
+        }
+        
+        double fitness = fitnessFromErrors(errors);
+        chromosome.setFitness(fitness);
+        if (cache != null) {
+            cache.put(chromosome, fitness);
+        }
+        
+        return fitness;
+    }
+    
+    //Mengisi counts[h] dengan jumlah sel hitam di area 3x3 hint h
+    //(satu sweep box sum seluruh papan untuk papan besar dengan hint padat)
+    private void countBlackNeighbors(Chromosome chromosome, int[] counts) {
+        int hintCount = hintIndex.getHintCount();
+        if (neighborGrids != null) {
+            NeighborCountGrid grid = neighborGrids.get();
+            grid.compute(chromosome);
+            for (int h = 0; h < hintCount; h++) {
+                counts[h] = grid.get(hintIndex.getRow(h), hintIndex.getCol(h));
             }
-            
-            totalError += weightedError;
+            return;
+        }
+        for (int h = 0; h < hintCount; h++) {
+            counts[h] = chromosome.countBlackNeighbors(hintIndex.getRow(h), hintIndex.getCol(h));
+        }
+    }
+    
+    //Menyusun nilai fitness dari error local per hint (urutan hint sama dengan HintIndex).
+    //Dipakai evaluasi penuh dan BitSlicedEvaluator sehingga hasil keduanya identik.
+    double fitnessFromErrors(int[] errors) {
+        double totalError = 0.0;
+        int correctHints = 0;
+        int hintCount = hintIndex.getHintCount();
+        
+        // Error local dengan weight dan quadratic penalty (tabel errorTerms)
+        for (int i = 0; i < hintCount; i++) {
+            totalError += errorTerms[i][errors[i]];
             
             // Hitung jumlah hints yang sudah benar
-            if (localError == 0) {
+            if (errors[i] == 0) {
                 correctHints++;
             }
         }
         
         // Penalty untuk hints yang overlapping dan tidak konsisten
-        double fitnessThreshold = (hints.length > 15) ? 100.0 : 50.0;
-        if (totalError < fitnessThreshold) {
-            double inconsistencyPenalty = calculateInconsistencyPenalty(chromosome, hints);
-            totalError += inconsistencyPenalty;
+        double inconsistencyPenalty = 0.0;
+        if (totalError < fitnessThreshold(hintCount)) {
+            inconsistencyPenalty = calculateInconsistencyPenalty(errors);
         }
-        
-        // Bonus untuk hints yang benar
-        double bonus = correctHints * 0.01;
-        if (correctHints > hints.length * 0.5) {
-            bonus += (correctHints - hints.length * 0.5) * 0.02;
-        }
-        totalError = Math.max(0.0, totalError - bonus);
-        
-        chromosome.setFitness(totalError);
-        
-        return totalError;
+        return combineFitness(totalError, inconsistencyPenalty, correctHints, hintCount);
     }
     
-    private double calculateInconsistencyPenalty(Chromosome chromosome, int[][] hints) {
-        int[] actualCounts = new int[hints.length];
-        int[] errors = new int[hints.length];
-        
-        //loop untuk menghitung jumlah sel hitam di area 3x3 sekitar petunjuk
-        for (int i = 0; i < hints.length; i++) {
-            int row = hints[i][0];
-            int col = hints[i][1];
-            int expected = hints[i][2];
-            actualCounts[i] = chromosome.countBlackNeighbors(row, col);
-            errors[i] = Math.abs(expected - actualCounts[i]);
-        }
-        
+    private double calculateInconsistencyPenalty(int[] errors) {
         double penalty = 0.0;
         
-        //loop untuk menghitung penalty untuk hints yang overlapping dan tidak konsisten
-        for (int i = 0; i < hints.length; i++) {
-            int row1 = hints[i][0];
-            int col1 = hints[i][1];
-            int error1 = errors[i];
-            
-            for (int j = i + 1; j < hints.length; j++) {
-                int row2 = hints[j][0];
-                int col2 = hints[j][1];
-                
-                // Cek apakah overlapping (area 3x3 mereka berpotongan)
-                if (Math.abs(row1 - row2) <= 2 && Math.abs(col1 - col2) <= 2) {
-                    int error2 = errors[j];
-                    
-                    if (error1 > 1 && error2 > 1) {
-                        int errorDiff = Math.abs(error1 - error2);
-                        penalty += errorDiff * 0.15;
-                    }
-                    if (error1 + error2 > 4) {
-                        penalty += (error1 + error2 - 4) * 0.1;
-                    }
-                }
-            }
+        //loop untuk menghitung penalty untuk pasangan hints yang overlapping (area 3x3 berpotongan) dan tidak konsisten
+        for (int p = 0; p < hintIndex.getPairCount(); p++) {
+            penalty += pairPenalty(errors[hintIndex.getPairFirst(p)], errors[hintIndex.getPairSecond(p)]);
         }
         
         return penalty;
@@ -16,45 +16,86 @@ public class FitnessGuidedUniformCrossover implements CrossoverStrategy {
     //Melakukan fitness-guided uniform crossover
     @Override
     public Chromosome[] crossover(Chromosome parent1, Chromosome parent2, Random random) {
-        int length = parent1.getLength();
+        //membuat kromosom baru, lalu isi dengan crossover word-level
+        Chromosome child1 = new Chromosome(parent1.getWidth(), parent1.getHeight(), new boolean[0]);
+        Chromosome child2 = new Chromosome(parent1.getWidth(), parent1.getHeight(), new boolean[0]);
+        crossoverInto(parent1, parent2, child1, child2, random);
         
+        return new Chromosome[]{child1, child2};
+    }
+    
+    //Fitness-guided uniform crossover langsung ke child yang sudah ada (tanpa alokasi).
+    //Per word: mask bit 1 = child1 mengambil gen parent1 (child2 dari parent2), bit 0 = sebaliknya.
+    @Override
+    public void crossoverInto(Chromosome parent1, Chromosome parent2,
+                              Chromosome child1, Chromosome child2, Random random) {
+        double probParent1 = probabilityFromParent1(parent1, parent2);
+        
+        // Bit mask diambil dari buffer sebanyak gen valid per word, agar papan sempit
+        // (banyak bit padding per baris) tidak membuang bit acak
+        long buffer = 0L;
+        int available = 0;
+        int wordCount = parent1.getWordCount();
+        for (int w = 0; w < wordCount; w++) {
+            int bits = Long.bitCount(parent1.getWordMask(w));
+            long mask;
+            if (bits == 64) {
+                mask = biasedWord(random, probParent1);
+            } else {
+                if (available < bits) {
+                    buffer = biasedWord(random, probParent1);
+                    available = 64;
+                }
+                mask = buffer;
+                buffer >>>= bits;
+                available -= bits;
+            }
+            long word1 = parent1.getWord(w);
+            long word2 = parent2.getWord(w);
+            child1.updateWord(w, (word1 & mask) | (word2 & ~mask));
+            child2.updateWord(w, (word2 & mask) | (word1 & ~mask));
+        }
+    }
+    
+    //64 bit independen, setiap bit bernilai 1 dengan peluang tepat p (sama dengan nextDouble() < p per gen).
+    //Bit i = (U_i < p) dengan U_i uniform: bit U_i dibangkitkan dari yang teratas, 64 sekaligus per
+    //nextLong(), dan dibandingkan dengan ekspansi biner p; bit yang sudah berbeda langsung memutuskan.
+    //Rata-rata sekitar 8 nextLong() per 64 gen (setiap putaran memutuskan separuh bit yang tersisa).
+    static long biasedWord(Random random, double p) {
+        if (p <= 0.0) {
+            return 0L;
+        }
+        if (p >= 1.0) {
+            return -1L;
+        }
+        // Bit ke-j ekspansi biner p (bobot 2^-j) berada di posisi 63 - j (bit di bawah 2^-63 diabaikan)
+        long fraction = (long) (p * 0x1p63);
+        long result = 0L;
+        long undecided = -1L;
+        for (int j = 1; undecided != 0; j++) {
+            long u = random.nextLong();
+            long pBit = (j < 64 && ((fraction >>> (63 - j)) & 1L) != 0) ? -1L : 0L;
+            // p_j = 1, u_j = 0: U < p; p_j = 0, u_j = 1: U > p; bit sama: belum diputuskan
+            result |= undecided & pBit & ~u;
+            undecided &= ~(u ^ pBit);
+        }
+        return result;
+    }
+    
+    //Probabilitas child1 mengambil gen dari parent1 (parent dengan fitness lebih kecil lebih disukai)
+    private double probabilityFromParent1(Chromosome parent1, Chromosome parent2) {
         //menghitung fitness relatif untuk menentukan bias
         double fitness1 = parent1.getFitness();
         double fitness2 = parent2.getFitness();
         double totalFitness = fitness1 + fitness2;
         
         //menghitung probabilitas memilih dari parent1
-        double probParent1;
         if (totalFitness < 0.001) {
-            probParent1 = 0.5;
-        } else {
-            double baseProb = fitness2 / totalFitness;
-            probParent1 = 0.5 + (baseProb - 0.5) * biasStrength;
-            probParent1 = Math.max(0.3, Math.min(0.7, probParent1));
+            return 0.5;
         }
-        
-        //membuat gen untuk child1 dan child2
-        boolean[] genes1 = new boolean[length];
-        boolean[] genes2 = new boolean[length];
-        
-        //loop untuk setiap posisi, pilih secara acak dengan bias fitness
-        for (int i = 0; i < length; i++) {
-            if (random.nextDouble() < probParent1) {
-                //mengambil dari parent1 untuk child1, parent2 untuk child2
-                genes1[i] = parent1.getGene(i);
-                genes2[i] = parent2.getGene(i);
-            } else {
-                //mengambil dari parent2 untuk child1, parent1 untuk child2
-                genes1[i] = parent2.getGene(i);
-                genes2[i] = parent1.getGene(i);
-            }
-        }
-        
-        //membuat kromosom baru
-        Chromosome child1 = new Chromosome(parent1.getWidth(), parent1.getHeight(), genes1);
-        Chromosome child2 = new Chromosome(parent1.getWidth(), parent1.getHeight(), genes2);
-        
-        return new Chromosome[]{child1, child2};
+        double baseProb = fitness2 / totalFitness;
+        double probParent1 = 0.5 + (baseProb - 0.5) * biasStrength;
+        return Math.max(0.3, Math.min(0.7, probParent1));
     }
 }
 
@@ -0,0 +1,59 @@
+/**
+ * State evaluasi incremental milik satu kromosom.
+ * Menyimpan jumlah sel hitam dan error per hint beserta komponen fitness,
+ * sehingga flip satu gen hanya memperbarui hint di area 3x3 sel tersebut.
+ * Semua komponen berupa integer (jumlah weighted error dan penalty dalam satuan tetap),
+ * sehingga state tidak mengakumulasi rounding error dan hanya bergantung pada gen.
+ * Seluruh logika perhitungan ada di FitnessFunction; kelas ini hanya menyimpan data.
+ */
+public class FitnessState {
+    //Fitness function pemilik tabel hint yang dipakai state ini
+    final FitnessFunction owner;
+    
+    //Jumlah sel hitam di area 3x3 setiap hint
+    final int[] counts;
+    
+    //Local error |expected - actual| setiap hint
+    final int[] errors;
+    
+    //Jumlah weighted error seluruh hint (satuan 1/FitnessFunction.ERROR_UNIT)
+    long errorUnits;
+    
+    //Jumlah penalty pasangan hint overlapping (satuan 1/FitnessFunction.PENALTY_UNIT)
+    long penaltyUnits;
+    
+    //Jumlah hint yang sudah benar
+    int correctHints;
+    
+    //Constructor
+    FitnessState(FitnessFunction owner) {
+        this.owner = owner;
+        this.counts = new int[owner.getHintCount()];
+        this.errors = new int[owner.getHintCount()];
+    }
+    
+    //Membuat salinan state (dipakai saat kromosom di-clone)
+    FitnessState copy() {
+        FitnessState copy = new FitnessState(owner);
+        System.arraycopy(counts, 0, copy.counts, 0, counts.length);
+        System.arraycopy(errors, 0, copy.errors, 0, errors.length);
+        copy.errorUnits = errorUnits;
+        copy.penaltyUnits = penaltyUnits;
+        copy.correctHints = correctHints;
+        return copy;
+    }
+    
+    //Menyalin isi state lain dengan owner yang sama ke state ini (tanpa alokasi)
+    void copyFrom(FitnessState other) {
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        System.arraycopy(other.errors, 0, errors, 0, errors.length);
+        errorUnits = other.errorUnits;
+        penaltyUnits = other.penaltyUnits;
+        correctHints = other.correctHints;
+    }
+    
+    //Dipanggil oleh Chromosome setiap kali satu sel berubah warna
+    void onCellChanged(int cell, boolean black) {
+        owner.applyCellChange(this, cell, black);
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * Callback progress ImprovedGeneticAlgorithm.
+ *
+ * Dipanggil di thread yang menjalankan GA. Listener yang lambat memperlambat GA,
+ * jadi pekerjaan berat (misalnya menulis file) sebaiknya di-buffer.
+ */
+public interface GenerationListener {
+    //Dipanggil sekali setelah populasi awal dievaluasi (generasi 0)
+    default void onStart(GenerationMetrics initial) {
+    }
+
+    //Dipanggil setelah setiap step()
+    void onGeneration(GenerationMetrics metrics);
+
+    //Dipanggil sekali di akhir run() dengan snapshot terakhir
+    default void onFinish(GenerationMetrics last) {
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Snapshot metrik satu generasi untuk GenerationListener.
+ *
+ * Isi:
+ * - Statistik populasi (best global, rata-rata, terburuk, diversity, std dev fitness)
+ * - Parameter adaptif yang dipakai generasi ini (elitism, crossover rate) dan status stagnasi
+ * - Escape mechanism yang dijalankan (jika ada) dan flag early stop
+ * - Jumlah evaluasi fitness dan waktu (nanodetik) per fase
+ *
+ * Snapshot hanya dibuat jika GA punya minimal satu listener; tanpa listener, GA tidak
+ * memanggil System.nanoTime() dan tidak membuat objek ini.
+ */
+public class GenerationMetrics {
+    //Fase yang diukur waktunya
+    public enum Phase {
+        SELECTION,     // sort populasi, elitism, prepare dan select parent
+        CROSSOVER,     // crossover atau salin parent/elite ke offspring
+        MUTATION,      // mutasi offspring (termasuk pin sel yang dipaksa puzzle)
+        EVALUATION,    // evaluasi fitness populasi
+        LOCAL_SEARCH,  // tahap memetic
+        STATISTICS,    // best, diversity, rata-rata, std dev, snapshot adaptive mutation
+        ESCAPE         // escape mechanism saat stagnasi (termasuk evaluasinya)
+    }
+
+    //Escape mechanism yang dijalankan pada generasi ini
+    public enum EscapeType {
+        NONE,
+        MUTATION_BOOST,
+        DIVERSITY_INJECTION,
+        PARTIAL_RESTART
+    }
+
+    private final int generation;
+    private final double bestFitness;
+    private final double averageFitness;
+    private final double worstFitness;
+    private final double medianFitness;
+    private final double diversity;
+    private final double fitnessStdDev;
+    private final int elitism;
+    private final double crossoverRate;
+    private final int stagnationCount;
+    private final double improvementRate;
+    private final EscapeType escapeType;
+    private final int escapeStagnation;
+    private final int escapeAttempts;
+    private final boolean earlyStopped;
+    private final long evaluations;
+    private final long localSearchEvaluations;
+    private final long[] phaseNanos;
+    private final long totalNanos;
+
+    //Constructor, dipanggil oleh ImprovedGeneticAlgorithm
+    GenerationMetrics(int generation, double bestFitness, double averageFitness,
+                      double worstFitness, double medianFitness,
+                      double diversity, double fitnessStdDev,
+                      int elitism, double crossoverRate, int stagnationCount, double improvementRate,
+                      EscapeType escapeType, int escapeStagnation, int escapeAttempts, boolean earlyStopped,
+                      long evaluations, long localSearchEvaluations, long[] phaseNanos, long totalNanos) {
+        this.generation = generation;
+        this.bestFitness = bestFitness;
+        this.averageFitness = averageFitness;
+        this.worstFitness = worstFitness;
+        this.medianFitness = medianFitness;
+        this.diversity = diversity;
+        this.fitnessStdDev = fitnessStdDev;
+        this.elitism = elitism;
+        this.crossoverRate = crossoverRate;
+        this.stagnationCount = stagnationCount;
+        this.improvementRate = improvementRate;
+        this.escapeType = escapeType;
+        this.escapeStagnation = escapeStagnation;
+        this.escapeAttempts = escapeAttempts;
+        this.earlyStopped = earlyStopped;
+        this.evaluations = evaluations;
+        this.localSearchEvaluations = localSearchEvaluations;
+        this.phaseNanos = phaseNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    public int getGeneration() { return generation; }
+    public double getBestFitness() { return bestFitness; }
+    public double getAverageFitness() { return averageFitness; }
+    public double getWorstFitness() { return worstFitness; }
+    public double getDiversity() { return diversity; }
+    public double getFitnessStdDev() { return fitnessStdDev; }
+    public int getElitism() { return elitism; }
+    public double getCrossoverRate() { return crossoverRate; }
+    public int getStagnationCount() { return stagnationCount; }
+    public double getImprovementRate() { return improvementRate; }
+    public EscapeType getEscapeType() { return escapeType; }
+    public int getEscapeAttempts() { return escapeAttempts; }
+    public boolean isEarlyStopped() { return earlyStopped; }
+    public boolean isSolutionFound() { return bestFitness == 0.0; }
+
+    //Median fitness populasi; hanya tersedia untuk snapshot populasi awal (NaN untuk generasi lain)
+    public double getMedianFitness() { return medianFitness; }
+
+    //Stagnation count saat escape dipicu (sebelum di-reset ke 0)
+    public int getEscapeStagnation() { return escapeStagnation; }
+
+    //Jumlah evaluasi fitness penuh sejak snapshot sebelumnya (termasuk migran dan escape)
+    public long getEvaluations() { return evaluations; }
+
+    //Jumlah evaluasi delta oleh tahap memetic pada generasi ini
+    public long getLocalSearchEvaluations() { return localSearchEvaluations; }
+
+    //Waktu satu fase dalam nanodetik
+    public long getNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    //Waktu total generasi dalam nanodetik
+    public long getTotalNanos() { return totalNanos; }
+}
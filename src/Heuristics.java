@@ -2,9 +2,40 @@ import java.util.Random;
 public class Heuristics {
     private Puzzle puzzle;
     
+    //Sel yang dipaksa puzzle (fixpoint ConstraintPropagator), null jika puzzle kontradiktif
+    private final ConstraintPropagator forcedCells;
+    
+    //Buffer box sum 3x3 per thread untuk papan besar dengan hint padat (null = hitung per hint)
+    private final ThreadLocal<NeighborCountGrid> neighborGrids;
+    
     //Constructor
     public Heuristics(Puzzle puzzle) {
         this.puzzle = puzzle;
+        
+        ConstraintPropagator propagator = new ConstraintPropagator(puzzle);
+        this.forcedCells = propagator.propagate() ? propagator : null;
+        
+        this.neighborGrids = NeighborCountGrid.isWorthwhile(puzzle.getWidth(), puzzle.getHeight(),
+                puzzle.getHintIndex().getHintCount())
+            ? ThreadLocal.withInitial(() -> new NeighborCountGrid(puzzle.getWidth(), puzzle.getHeight()))
+            : null;
+    }
+    
+    //Propagator berisi sel yang pasti hitam/putih di setiap solusi (null jika puzzle kontradiktif)
+    public ConstraintPropagator getForcedCells() {
+        return forcedCells;
+    }
+    
+    //Jumlah sel yang dipaksa puzzle
+    public int getForcedCellCount() {
+        return (forcedCells != null) ? forcedCells.getTrailSize() : 0;
+    }
+    
+    //Menulis sel yang dipaksa puzzle ke kromosom (seed / pin), sel lain tidak diubah
+    public void applyForcedCells(Chromosome chromosome) {
+        if (forcedCells != null) {
+            forcedCells.applyTo(chromosome);
+        }
     }
     
     //Menerapkan semua heuristik pada kromosom
@@ -31,12 +62,12 @@ public class Heuristics {
     //Pola 0: Jika angka = 0, semua tetangga (termasuk sel itu sendiri) pasti putih
     private boolean applyPattern0(Chromosome chromosome) {
         boolean changed = false;
-        int[][] hints = puzzle.getHintPositions();
+        HintIndex hints = puzzle.getHintIndex();
         
-        for (int i = 0; i < hints.length; i++) {
-            int row = hints[i][0];
-            int col = hints[i][1];
-            int value = hints[i][2];
+        for (int i = 0; i < hints.getHintCount(); i++) {
+            int row = hints.getRow(i);
+            int col = hints.getCol(i);
+            int value = hints.getValue(i);
             
             if (value == 0) {
                 // Semua sel di area 3x3 harus putih
@@ -59,15 +90,15 @@ public class Heuristics {
     //Pola 9: Jika angka = 9 dan di tengah (memiliki 9 tetangga), semua tetangga pasti hitam
     private boolean applyPattern9(Chromosome chromosome) {
         boolean changed = false;
-        int[][] hints = puzzle.getHintPositions();
+        HintIndex hints = puzzle.getHintIndex();
         
-        for (int i = 0; i < hints.length; i++) {
-            int row = hints[i][0];
-            int col = hints[i][1];
-            int value = hints[i][2];
+        for (int i = 0; i < hints.getHintCount(); i++) {
+            int row = hints.getRow(i);
+            int col = hints.getCol(i);
+            int value = hints.getValue(i);
             
             if (value == 9) {
-                int neighborCount = puzzle.getNeighborCount(row, col);
+                int neighborCount = hints.getNeighborCount(i);
                 
                 // Jika memiliki 9 tetangga (di tengah), semua pasti hitam
                 if (neighborCount == 9) {
@@ -91,14 +122,14 @@ public class Heuristics {
     //Pola Sudut/Tepi: Jika angka = jumlah maksimal tetangga yang dimiliki, semua tetangga pasti hitam
     private boolean applyEdgeCornerPattern(Chromosome chromosome) {
         boolean changed = false;
-        int[][] hints = puzzle.getHintPositions();
+        HintIndex hints = puzzle.getHintIndex();
         
-        for (int i = 0; i < hints.length; i++) {
-            int row = hints[i][0];
-            int col = hints[i][1];
-            int value = hints[i][2];
+        for (int i = 0; i < hints.getHintCount(); i++) {
+            int row = hints.getRow(i);
+            int col = hints.getCol(i);
+            int value = hints.getValue(i);
             
-            int neighborCount = puzzle.getNeighborCount(row, col);
+            int neighborCount = hints.getNeighborCount(i);
             
             // Jika nilai petunjuk sama dengan jumlah maksimal tetangga,
             // semua tetangga pasti hitam
@@ -123,16 +154,17 @@ public class Heuristics {
     //Jika suatu hint masih kurang/lebih, propagasikan constraint ke tetangga
     private boolean applyConstraintPropagation(Chromosome chromosome) {
         boolean changed = false;
-        int[][] hints = puzzle.getHintPositions();
+        HintIndex hints = puzzle.getHintIndex();
+        NeighborCountGrid grid = computeNeighborGrid(chromosome);
         
-        for (int i = 0; i < hints.length; i++) {
-            int row = hints[i][0];
-            int col = hints[i][1];
-            int expectedValue = hints[i][2];
+        for (int i = 0; i < hints.getHintCount(); i++) {
+            int row = hints.getRow(i);
+            int col = hints.getCol(i);
+            int expectedValue = hints.getValue(i);
             
             // Hitung current count
-            int currentCount = chromosome.countBlackNeighbors(row, col);
-            int neighborCount = puzzle.getNeighborCount(row, col);
+            int currentCount = countBlackNeighbors(chromosome, grid, row, col);
+            int neighborCount = hints.getNeighborCount(i);
             
             if (currentCount == expectedValue) {
                 // Hint sudah terpenuhi, tidak perlu perubahan
@@ -151,7 +183,7 @@ public class Heuristics {
                             c >= 0 && c < puzzle.getWidth() &&
                             !puzzle.isHint(r, c)) {  // Hanya sel non-hint
                             if (!chromosome.getCell(r, c)) {
-                                chromosome.setCell(r, c, true);
+                                setCell(chromosome, grid, r, c, true);
                                 changed = true;
                             }
                         }
@@ -172,14 +204,15 @@ public class Heuristics {
     //Fokus pada hints yang hampir terpenuhi (error kecil)
     private boolean applyPatternCompletion(Chromosome chromosome) {
         boolean changed = false;
-        int[][] hints = puzzle.getHintPositions();
+        HintIndex hints = puzzle.getHintIndex();
+        NeighborCountGrid grid = computeNeighborGrid(chromosome);
         
-        for (int i = 0; i < hints.length; i++) {
-            int row = hints[i][0];
-            int col = hints[i][1];
-            int expectedValue = hints[i][2];
+        for (int i = 0; i < hints.getHintCount(); i++) {
+            int row = hints.getRow(i);
+            int col = hints.getCol(i);
+            int expectedValue = hints.getValue(i);
             
-            int currentCount = chromosome.countBlackNeighbors(row, col);
+            int currentCount = countBlackNeighbors(chromosome, grid, row, col);
             int error = Math.abs(expectedValue - currentCount);
             
             // Fokus pada hints dengan error kecil (1 atau 2)
@@ -207,7 +240,7 @@ public class Heuristics {
                                 // Ubah sel ini untuk memperbaiki error
                                 boolean shouldBeBlack = (currentCount < expectedValue);
                                 if (chromosome.getCell(r, c) != shouldBeBlack) {
-                                    chromosome.setCell(r, c, shouldBeBlack);
+                                    setCell(chromosome, grid, r, c, shouldBeBlack);
                                     changed = true;
                                 }
                                 break;
@@ -221,6 +254,30 @@ public class Heuristics {
         return changed;
     }
     
+    //Box sum 3x3 seluruh papan untuk kromosom (null jika puzzle memakai hitung per hint)
+    private NeighborCountGrid computeNeighborGrid(Chromosome chromosome) {
+        if (neighborGrids == null) {
+            return null;
+        }
+        NeighborCountGrid grid = neighborGrids.get();
+        grid.compute(chromosome);
+        return grid;
+    }
+    
+    //Jumlah sel hitam di area 3x3, dari grid jika ada
+    private static int countBlackNeighbors(Chromosome chromosome, NeighborCountGrid grid, int row, int col) {
+        return (grid != null) ? grid.get(row, col) : chromosome.countBlackNeighbors(row, col);
+    }
+    
+    //Mengubah sel dan menjaga grid tetap sinkron
+    private static void setCell(Chromosome chromosome, NeighborCountGrid grid, int row, int col, boolean value) {
+        if (grid != null) {
+            grid.setCell(chromosome, row, col, value);
+        } else {
+            chromosome.setCell(row, col, value);
+        }
+    }
+    
     //Menerapkan heuristik pada populasi awal
     public void applyToPopulation(Chromosome[] population, Random random) {
         // Terapkan heuristik pada sebagian populasi
@@ -0,0 +1,226 @@
+/**
+ * Index hint yang dihitung sekali per puzzle dan tidak berubah (immutable).
+ *
+ * Isi:
+ * - Posisi dan nilai setiap hint dalam array primitif (urutan baris lalu kolom)
+ * - Jumlah sel valid di area 3x3 setiap hint
+ * - Reverse map sel -> hint yang area 3x3-nya mencakup sel tersebut (layout CSR)
+ * - Daftar hint yang overlapping per hint (CSR) dan daftar pasangan overlapping (i < j)
+ *
+ * Dipakai oleh hot path (FitnessFunction, Heuristics, ImprovedGeneticAlgorithm)
+ * sebagai pengganti Puzzle.getHintPositions() yang memindai ulang papan.
+ */
+public class HintIndex {
+    private final int width;
+    private final int height;
+
+    //Data per hint
+    private final int[] rows;
+    private final int[] cols;
+    private final int[] values;
+    private final int[] neighborCounts;
+
+    //CSR sel -> hint: hint yang mencakup sel c ada di cellHints[cellHintStart[c]..cellHintStart[c+1])
+    private final int[] cellHintStart;
+    private final int[] cellHints;
+
+    //CSR hint -> hint overlapping (area 3x3 berpotongan), tidak termasuk dirinya sendiri
+    private final int[] overlapStart;
+    private final int[] overlapHints;
+
+    //Pasangan overlapping (first < second), urut berdasarkan first lalu second
+    private final int[] pairFirst;
+    private final int[] pairSecond;
+
+    //Constructor, membangun index dari papan puzzle
+    HintIndex(int width, int height, int[][] board) {
+        this.width = width;
+        this.height = height;
+
+        int count = 0;
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                if (board[i][j] >= 0) {
+                    count++;
+                }
+            }
+        }
+
+        rows = new int[count];
+        cols = new int[count];
+        values = new int[count];
+        neighborCounts = new int[count];
+        int index = 0;
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                if (board[i][j] >= 0) {
+                    rows[index] = i;
+                    cols[index] = j;
+                    values[index] = board[i][j];
+                    neighborCounts[index] = (Math.min(height - 1, i + 1) - Math.max(0, i - 1) + 1)
+                            * (Math.min(width - 1, j + 1) - Math.max(0, j - 1) + 1);
+                    index++;
+                }
+            }
+        }
+
+        // Reverse map sel -> hint
+        int cellCount = width * height;
+        cellHintStart = new int[cellCount + 1];
+        for (int h = 0; h < count; h++) {
+            for (int r = Math.max(0, rows[h] - 1); r <= Math.min(height - 1, rows[h] + 1); r++) {
+                for (int c = Math.max(0, cols[h] - 1); c <= Math.min(width - 1, cols[h] + 1); c++) {
+                    cellHintStart[r * width + c + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < cellCount; c++) {
+            cellHintStart[c + 1] += cellHintStart[c];
+        }
+        cellHints = new int[cellHintStart[cellCount]];
+        int[] fill = cellHintStart.clone();
+        for (int h = 0; h < count; h++) {
+            for (int r = Math.max(0, rows[h] - 1); r <= Math.min(height - 1, rows[h] + 1); r++) {
+                for (int c = Math.max(0, cols[h] - 1); c <= Math.min(width - 1, cols[h] + 1); c++) {
+                    cellHints[fill[r * width + c]++] = h;
+                }
+            }
+        }
+
+        // Hint overlapping: hanya hint dalam jarak 2 baris yang perlu dicek (hint urut per baris)
+        overlapStart = new int[count + 1];
+        int pairCount = 0;
+        for (int i = 0; i < count; i++) {
+            for (int j = firstCandidate(i); j < count && rows[j] <= rows[i] + 2; j++) {
+                if (i != j && overlaps(i, j)) {
+                    overlapStart[i + 1]++;
+                    if (j > i) {
+                        pairCount++;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            overlapStart[i + 1] += overlapStart[i];
+        }
+        overlapHints = new int[overlapStart[count]];
+        pairFirst = new int[pairCount];
+        pairSecond = new int[pairCount];
+        for (int i = 0, k = 0, p = 0; i < count; i++) {
+            for (int j = firstCandidate(i); j < count && rows[j] <= rows[i] + 2; j++) {
+                if (i != j && overlaps(i, j)) {
+                    overlapHints[k++] = j;
+                    if (j > i) {
+                        pairFirst[p] = i;
+                        pairSecond[p] = j;
+                        p++;
+                    }
+                }
+            }
+        }
+    }
+
+    //Index hint pertama yang barisnya >= rows[i] - 2 (rows terurut naik)
+    private int firstCandidate(int i) {
+        int j = i;
+        while (j > 0 && rows[j - 1] >= rows[i] - 2) {
+            j--;
+        }
+        return j;
+    }
+
+    //Cek apakah area 3x3 dua hint berpotongan
+    private boolean overlaps(int i, int j) {
+        return Math.abs(rows[i] - rows[j]) <= 2 && Math.abs(cols[i] - cols[j]) <= 2;
+    }
+
+    //Jumlah hint
+    public int getHintCount() {
+        return rows.length;
+    }
+
+    //Baris hint ke-h
+    public int getRow(int h) {
+        return rows[h];
+    }
+
+    //Kolom hint ke-h
+    public int getCol(int h) {
+        return cols[h];
+    }
+
+    //Nilai hint ke-h
+    public int getValue(int h) {
+        return values[h];
+    }
+
+    //Index sel (row * width + col) hint ke-h
+    public int getCell(int h) {
+        return rows[h] * width + cols[h];
+    }
+
+    //Jumlah sel valid di area 3x3 hint ke-h
+    public int getNeighborCount(int h) {
+        return neighborCounts[h];
+    }
+
+    //Awal range CSR hint yang mencakup sel cell
+    public int cellHintsBegin(int cell) {
+        return cellHintStart[cell];
+    }
+
+    //Akhir (eksklusif) range CSR hint yang mencakup sel cell
+    public int cellHintsEnd(int cell) {
+        return cellHintStart[cell + 1];
+    }
+
+    //Hint pada posisi k di CSR sel -> hint
+    public int cellHintAt(int k) {
+        return cellHints[k];
+    }
+
+    //Awal range CSR hint yang overlapping dengan hint h
+    public int overlapsBegin(int h) {
+        return overlapStart[h];
+    }
+
+    //Akhir (eksklusif) range CSR hint yang overlapping dengan hint h
+    public int overlapsEnd(int h) {
+        return overlapStart[h + 1];
+    }
+
+    //Hint pada posisi k di CSR hint -> hint overlapping
+    public int overlapAt(int k) {
+        return overlapHints[k];
+    }
+
+    //Jumlah hint yang overlapping dengan hint h
+    public int getOverlapCount(int h) {
+        return overlapStart[h + 1] - overlapStart[h];
+    }
+
+    //Jumlah pasangan hint overlapping
+    public int getPairCount() {
+        return pairFirst.length;
+    }
+
+    //Hint pertama (index lebih kecil) dari pasangan ke-p
+    public int getPairFirst(int p) {
+        return pairFirst[p];
+    }
+
+    //Hint kedua (index lebih besar) dari pasangan ke-p
+    public int getPairSecond(int p) {
+        return pairSecond[p];
+    }
+
+    //Lebar papan
+    public int getWidth() {
+        return width;
+    }
+
+    //Tinggi papan
+    public int getHeight() {
+        return height;
+    }
+}
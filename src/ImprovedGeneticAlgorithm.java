@@ -1,6 +1,9 @@
+import java.io.PrintStream;
 import java.util.Random;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 
 public class ImprovedGeneticAlgorithm {
     private Puzzle puzzle;
@@ -25,6 +28,7 @@ public class ImprovedGeneticAlgorithm {
     private double currentDiversity;
     private double averageFitness;
     private double fitnessStdDev;
+    private double worstFitness;
     
     // Anti-stagnation variables
     private double previousBestFitness;
@@ -37,6 +41,58 @@ public class ImprovedGeneticAlgorithm {
     private double originalMutationRate;   // Simpan mutation rate original untuk adaptive
     private double improvementRate;        // Track improvement rate untuk adaptive parameters
     
+    // Evaluasi paralel (null = sequential)
+    private ParallelEvaluator parallelEvaluator;
+    
+    // Evaluator yang dibuat sendiri oleh setParallelism (dihentikan GA ini); null jika milik pemanggil
+    private ParallelEvaluator ownedEvaluator;
+    
+    // Evaluasi bit-sliced 64 individu per word (null = evaluasi per kromosom)
+    private BitSlicedEvaluator bitSlicedEvaluator;
+    
+    // Mode arena: dua buffer populasi yang dipakai bergantian setiap generasi
+    private boolean populationArena;
+    private Chromosome[] nextPopulation;
+    private Chromosome spareOffspring;  // tempat offspring kedua yang tidak masuk populasi (slot ganjil)
+    
+    // Mode population store: kedua buffer arena adalah view PopulationStore (gen bersambung,
+    // sort dan statistik pada array primitif); store ditukar bersama buffer setiap generasi
+    private boolean populationStore;
+    private PopulationStore currentStore;
+    private PopulationStore nextStore;
+    
+    // Mode steady-state: offspring per batch (0 = generational), peringkat slot dan buffer offspring
+    private int steadyStateOffspring;
+    private RankedPopulation rankedPopulation;
+    private Chromosome[] steadyStateBuffer;
+    
+    // Tahap memetic setelah offspring dievaluasi (null = tidak aktif)
+    private LocalSearch localSearch;
+    
+    // Seed dan pin sel yang dipaksa puzzle (hasil ConstraintPropagator)
+    private boolean forcedCellPinning;
+    
+    // Status eksekusi (run() atau initialize() + step() berulang)
+    private int escapeAttempts;
+    private int maxEscapeAttempts = 5;
+    private boolean stoppedEarly;
+    private volatile boolean stopRequested;
+    
+    // Listener progress; console listener terpasang selama verbose aktif
+    private final List<GenerationListener> listeners = new ArrayList<>();
+    private ConsoleGenerationListener consoleListener;
+    private PrintStream out = System.out;
+    private GenerationMetrics lastMetrics;
+    
+    // Metrik generasi berjalan (waktu hanya diukur jika ada listener)
+    private boolean timed;
+    private final long[] phaseNanos = new long[GenerationMetrics.Phase.values().length];
+    private long totalEvaluations;
+    private long reportedEvaluations;
+    private long localSearchEvaluations;
+    private int lastElitism;
+    private double lastCrossoverRate;
+    
     public ImprovedGeneticAlgorithm(
             Puzzle puzzle,
             int populationSize,
@@ -70,6 +126,8 @@ public class ImprovedGeneticAlgorithm {
         this.originalCrossoverRate = crossoverRate;
         this.originalMutationRate = mutationRate;
         this.improvementRate = 1.0;  
+        
+        setVerbose(true);
     }
     
     //Getter untuk mendapatkan parameter original
@@ -80,6 +138,169 @@ public class ImprovedGeneticAlgorithm {
         return (currentGeneration > 0) ? calculateAdaptiveCrossoverRate() : originalCrossoverRate; 
     }
     
+    //Mengaktifkan evaluasi fitness incremental (flip gen memperbarui error hint dalam O(9), fitness identik dengan evaluasi penuh)
+    public void setIncrementalEvaluation(boolean incremental) {
+        fitnessFunction.setIncrementalEvaluation(incremental);
+    }
+    
+    //Mengaktifkan cache fitness dengan capacity entry (0 = tanpa cache). Hasil GA tidak berubah.
+    public void setFitnessCacheSize(int capacity) {
+        fitnessFunction.setCache(capacity > 0
+            ? new FitnessCache(capacity, puzzle.getWidth(), puzzle.getHeight()) : null);
+    }
+    
+    //Cache fitness yang aktif (null jika tidak ada), untuk membaca counter hit/miss
+    public FitnessCache getFitnessCache() {
+        return fitnessFunction.getCache();
+    }
+    
+    //Mengaktifkan evaluasi bit-sliced (64 individu per word). Fitness identik dengan evaluasi biasa;
+    //tidak dipakai selama evaluasi incremental aktif, dan melewati cache fitness.
+    public void setBitSlicedEvaluation(boolean bitSliced) {
+        bitSlicedEvaluator = bitSliced ? new BitSlicedEvaluator(fitnessFunction) : null;
+    }
+    
+    public boolean isBitSlicedEvaluation() {
+        return bitSlicedEvaluator != null;
+    }
+    
+    //Mengatur jumlah thread untuk evaluasi fitness dan heuristik (1 = sequential)
+    //Hasil tetap identik dengan sequential untuk seed yang sama. Thread pool dibuat dan dimiliki
+    //GA ini: dihentikan saat diganti atau lewat shutdown().
+    public void setParallelism(int threads) {
+        ParallelEvaluator evaluator = (threads > 1) ? new ParallelEvaluator(threads) : null;
+        setParallelEvaluator(evaluator);
+        ownedEvaluator = evaluator;
+    }
+    
+    //Memakai evaluator paralel yang sudah ada (misalnya dibagi antar beberapa GA).
+    //Evaluator tetap milik pemanggil dan tidak dihentikan oleh GA.
+    public void setParallelEvaluator(ParallelEvaluator parallelEvaluator) {
+        releaseOwnedEvaluator();
+        this.parallelEvaluator = parallelEvaluator;
+    }
+    
+    //Menghentikan thread pool yang dibuat setParallelism (evaluator milik pemanggil tidak disentuh).
+    //GA tetap bisa dipakai setelahnya secara sequential.
+    public void shutdown() {
+        if (ownedEvaluator != null && parallelEvaluator == ownedEvaluator) {
+            parallelEvaluator = null;
+        }
+        releaseOwnedEvaluator();
+    }
+    
+    private void releaseOwnedEvaluator() {
+        if (ownedEvaluator != null) {
+            ownedEvaluator.shutdown();
+            ownedEvaluator = null;
+        }
+    }
+    
+    //Mode arena: offspring ditulis ke kromosom yang sudah dialokasikan di buffer generasi
+    //berikutnya (tanpa clone/alokasi per generasi). Hasil identik dengan mode biasa, juga dengan
+    //evaluasi incremental (state yang disalin dari parent eksak, lihat FitnessState).
+    public void setPopulationArena(boolean populationArena) {
+        this.populationArena = populationArena;
+        if (!populationArena) {
+            nextPopulation = null;
+            spareOffspring = null;
+            setPopulationStore(false);
+        }
+    }
+    
+    public boolean isPopulationArena() {
+        return populationArena;
+    }
+    
+    //Mode population store (mengaktifkan arena): gen populasi disimpan bersambung di PopulationStore,
+    //sort memakai radix sort pada fitness primitif. Hasil identik dengan mode arena.
+    //Tidak dipakai dalam mode steady-state.
+    public void setPopulationStore(boolean populationStore) {
+        this.populationStore = populationStore;
+        currentStore = null;
+        nextStore = null;
+        nextPopulation = null;
+        if (populationStore) {
+            populationArena = true;
+        }
+    }
+    
+    public boolean isPopulationStore() {
+        return populationStore;
+    }
+    
+    //Mode steady-state: setiap batch membuat offspringPerStep offspring (dibulatkan ke atas menjadi
+    //genap) yang menggantikan individu terburuk jika tidak lebih buruk darinya. Satu step() tetap
+    //satu generasi = populationSize offspring, jadi stagnasi, escape dan listener tidak berubah.
+    //Local search diterapkan per batch offspring. 0 = generational (default).
+    public void setSteadyState(int offspringPerStep) {
+        if (offspringPerStep < 0) {
+            throw new IllegalArgumentException("offspringPerStep must be >= 0");
+        }
+        this.steadyStateOffspring = (offspringPerStep + 1) & ~1;
+        rankedPopulation = null;
+        steadyStateBuffer = null;
+    }
+    
+    public boolean isSteadyState() {
+        return steadyStateOffspring > 0;
+    }
+    
+    public int getSteadyStateOffspring() {
+        return steadyStateOffspring;
+    }
+    
+    //Mengaktifkan hill-climb memetic pada offspring terbaik setiap generasi (null = tidak aktif)
+    public void setLocalSearch(LocalSearch localSearch) {
+        this.localSearch = localSearch;
+    }
+    
+    public LocalSearch getLocalSearch() {
+        return localSearch;
+    }
+    
+    //Seed populasi awal dan pin offspring dengan sel yang dipaksa puzzle (hasil propagasi constraint)
+    public void setForcedCellPinning(boolean forcedCellPinning) {
+        this.forcedCellPinning = forcedCellPinning;
+    }
+    
+    public boolean isForcedCellPinning() {
+        return forcedCellPinning;
+    }
+    
+    //Mengatur apakah progress dicetak ke console (memasang/melepas ConsoleGenerationListener)
+    public void setVerbose(boolean verbose) {
+        if (verbose && consoleListener == null) {
+            consoleListener = new ConsoleGenerationListener(out);
+            listeners.add(consoleListener);
+        } else if (!verbose && consoleListener != null) {
+            listeners.remove(consoleListener);
+            consoleListener = null;
+        }
+    }
+    
+    //Mengatur tujuan output progress (default System.out), misalnya buffer per job eksperimen paralel
+    public void setOutput(PrintStream out) {
+        this.out = out;
+        if (consoleListener != null) {
+            consoleListener.setOutput(out);
+        }
+    }
+    
+    //Menambah listener yang menerima GenerationMetrics setiap generasi
+    public void addGenerationListener(GenerationListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeGenerationListener(GenerationListener listener) {
+        listeners.remove(listener);
+    }
+    
+    //Snapshot metrik terakhir (null jika tidak ada listener saat GA berjalan)
+    public GenerationMetrics getLastMetrics() {
+        return lastMetrics;
+    }
+    
     private void initializePopulation() {
         population = new Chromosome[populationSize];
         
@@ -88,9 +309,14 @@ public class ImprovedGeneticAlgorithm {
             population[i] = new Chromosome(puzzle.getWidth(), puzzle.getHeight(), random);
         }
         
+        // Seed: sel yang dipaksa puzzle langsung diisi pada semua individu
+        if (forcedCellPinning) {
+            pinForcedCells(0);
+        }
+        
         // Terapkan heuristik pada sebagian populasi
         int puzzleSize = puzzle.getWidth() * puzzle.getHeight();
-        int hintCount = puzzle.getHintPositions().length;
+        int hintCount = puzzle.getHintCount();
         double hintDensity = (double) hintCount / puzzleSize;  
         
         // Adaptive heuristic percentage: semakin padat hints, semakin banyak heuristics
@@ -103,8 +329,13 @@ public class ImprovedGeneticAlgorithm {
         }
         
         int applyCount = (int) (population.length * heuristicPercent);
-        for (int i = 0; i < applyCount; i++) {
-            heuristics.applyHeuristics(population[i]);
+        if (parallelEvaluator != null) {
+            // Heuristik deterministik per kromosom, aman dijalankan paralel
+            parallelEvaluator.forEach(applyCount, i -> heuristics.applyHeuristics(population[i]));
+        } else {
+            for (int i = 0; i < applyCount; i++) {
+                heuristics.applyHeuristics(population[i]);
+            }
         }
         
         // Evaluasi fitness
@@ -116,21 +347,33 @@ public class ImprovedGeneticAlgorithm {
         initialDiversity = currentDiversity;
         previousBestFitness = bestFitness;
         
-        // Print fitness awal
-        System.out.println("Initial population fitness range:");
-        Arrays.sort(population, new Comparator<Chromosome>() {
-            @Override
-            public int compare(Chromosome c1, Chromosome c2) {
-                return Double.compare(c1.getFitness(), c2.getFitness());
-            }
-        });
-        System.out.println("  Best: " + String.format("%.2f", population[0].getFitness()));
-        System.out.println("  Worst: " + String.format("%.2f", population[population.length - 1].getFitness()));
-        System.out.println("  Median: " + String.format("%.2f", population[population.length / 2].getFitness()));
+        // Urutkan populasi awal (fitness range dilaporkan lewat listener di initialize())
+        sortPopulation();
     }
 
+    //Menulis sel yang dipaksa puzzle ke individu population[from..]
+    private void pinForcedCells(int from) {
+        for (int i = from; i < populationSize; i++) {
+            heuristics.applyForcedCells(population[i]);
+        }
+    }
+    
     private void evaluatePopulation() {
-        for (Chromosome chromosome : population) {
+        evaluate(population);
+    }
+    
+    //Evaluasi fitness sekumpulan kromosom (paralel jika parallelEvaluator aktif)
+    private void evaluate(Chromosome[] chromosomes) {
+        totalEvaluations += chromosomes.length;
+        if (bitSlicedEvaluator != null && !fitnessFunction.isIncrementalEvaluation()) {
+            bitSlicedEvaluator.evaluate(chromosomes, parallelEvaluator);
+            return;
+        }
+        if (parallelEvaluator != null) {
+            parallelEvaluator.evaluate(chromosomes, fitnessFunction);
+            return;
+        }
+        for (Chromosome chromosome : chromosomes) {
             fitnessFunction.calculateFitness(chromosome);
         }
     }
@@ -145,26 +388,34 @@ public class ImprovedGeneticAlgorithm {
     }
     
     private void updatePopulationStatistics() {
-        // Hitung diversity, untuk large population, hitung lebih jarang (setiap 5 generasi)
-        boolean shouldCalculateDiversity = true;
-        if (populationSize > 300) {
-            shouldCalculateDiversity = (currentGeneration % 5 == 0 || currentGeneration == 0);
-        }
-        
-        if (shouldCalculateDiversity) {
-            currentDiversity = DiversityMeasure.calculateDiversity(population);
-        }
+        // Hitung diversity setiap generasi (exact, O(n * L) lewat jumlah alel per lokus)
+        currentDiversity = DiversityMeasure.calculateDiversity(population);
 
-        //menghitung rata-rata fitness
+        //menghitung rata-rata dan fitness terburuk (dari array fitness primitif jika memakai store)
+        if (currentStore != null) {
+            int n = population.length;
+            currentStore.loadFitness(population);
+            averageFitness = currentStore.sumFitness(n) / n;
+            worstFitness = currentStore.maxFitness(n);
+            fitnessStdDev = currentStore.fitnessStdDev(n);
+            return;
+        }
         double totalFitness = 0.0;
+        double worst = 0.0;
         for (Chromosome chromosome : population) {
             totalFitness += chromosome.getFitness();
+            worst = Math.max(worst, chromosome.getFitness());
         }
         averageFitness = totalFitness / population.length;
+        worstFitness = worst;
         fitnessStdDev = DiversityMeasure.calculateFitnessDiversity(population);
     }
     
     private void sortPopulation() {
+        if (currentStore != null && population.length <= currentStore.getCapacity()) {
+            currentStore.sort(population);
+            return;
+        }
         Arrays.sort(population, new Comparator<Chromosome>() {
             @Override
             public int compare(Chromosome c1, Chromosome c2) {
@@ -293,9 +544,7 @@ public class ImprovedGeneticAlgorithm {
         }
         
         // Evaluasi semua
-        for (int i = 0; i < expandedPopulation.length; i++) {
-            fitnessFunction.calculateFitness(expandedPopulation[i]);
-        }
+        evaluate(expandedPopulation);
         
         // Pilih yang terbaik untuk populasi normal
         Arrays.sort(expandedPopulation, new Comparator<Chromosome>() {
@@ -455,24 +704,193 @@ public class ImprovedGeneticAlgorithm {
         return Math.max(1, Math.min(populationSize * maxElitismPercent / 100, dynamicElitism));
     }
     
-    private void createNewGeneration() {
+    //Satu generasi reproduksi (package-private agar bisa diukur langsung oleh benchmark)
+    void createNewGeneration() {
+        // Waktu per fase hanya diukur jika ada listener yang menerimanya
+        timed = !listeners.isEmpty();
+        Arrays.fill(phaseNanos, 0L);
+        long t = timed ? System.nanoTime() : 0L;
+        
+        // Mode store: populasi (termasuk individu baru dari escape/migrasi) dipindah ke view store
+        if (populationStore) {
+            ensureArena();
+            currentStore.adopt(population);
+        }
         sortPopulation();
-        Chromosome[] newPopulation = new Chromosome[populationSize];
         
         // Dynamic Elitism
         int currentElitism = calculateDynamicElitism();
         
-        for (int i = 0; i < currentElitism && i < populationSize; i++) {
-            newPopulation[i] = population[i].clone();
+        // Adaptive Crossover Rate
+        double adaptiveCrossoverRate = calculateAdaptiveCrossoverRate();
+        lastElitism = currentElitism;
+        lastCrossoverRate = adaptiveCrossoverRate;
+        
+        // Siapkan distribusi seleksi sekali untuk generasi ini
+        selectionStrategy.prepare(population, fitnessFunction);
+        t = lap(GenerationMetrics.Phase.SELECTION, t);
+        
+        // Snapshot statistik untuk adaptive mutation, sekali per generasi (populasi sudah terurut)
+        if (mutationStrategy instanceof AdaptiveMutation) {
+            ((AdaptiveMutation) mutationStrategy).updateStatistics(new PopulationStatistics(
+                currentGeneration, currentDiversity, fitnessStdDev, population[0].getFitness(), averageFitness));
         }
+        t = lap(GenerationMetrics.Phase.STATISTICS, t);
+        
+        if (populationArena) {
+            breedIntoArena(currentElitism, adaptiveCrossoverRate);
+        } else {
+            breed(currentElitism, adaptiveCrossoverRate);
+        }
+        t = timed ? System.nanoTime() : 0L;
+        
+        // Pin: crossover dan mutasi tidak boleh mengubah sel yang dipaksa puzzle
+        if (forcedCellPinning) {
+            pinForcedCells(currentElitism);
+        }
+        t = lap(GenerationMetrics.Phase.MUTATION, t);
+        
+        evaluatePopulation();
+        t = lap(GenerationMetrics.Phase.EVALUATION, t);
+        
+        // Tahap memetic: hill-climb pada offspring terbaik (elite tidak disentuh)
+        localSearchEvaluations = 0;
+        if (localSearch != null) {
+            long before = localSearch.getTotalEvaluations();
+            localSearch.apply(population, currentElitism, fitnessFunction, random);
+            localSearchEvaluations = localSearch.getTotalEvaluations() - before;
+        }
+        t = lap(GenerationMetrics.Phase.LOCAL_SEARCH, t);
+        
+        updateBestChromosome();
+        updatePopulationStatistics();
+        lap(GenerationMetrics.Phase.STATISTICS, t);
+        currentGeneration++;
+    }
+    
+    //Satu generasi steady-state: batch offspring menggantikan individu terburuk lewat RankedPopulation
+    //(O(k log n) per batch), tanpa sort populasi. Elite tidak disalin karena individu terbaik
+    //tidak pernah diganti.
+    void createSteadyStateGeneration() {
+        timed = !listeners.isEmpty();
+        Arrays.fill(phaseNanos, 0L);
+        long t = timed ? System.nanoTime() : 0L;
+        
+        // Populasi bisa diganti escape atau migrasi sejak generasi lalu: bangun ulang peringkat
+        ensureSteadyStateBuffers();
+        rankedPopulation.rebuild(population);
         
-        // Adaptive Crossover Rate
         double adaptiveCrossoverRate = calculateAdaptiveCrossoverRate();
+        lastElitism = 0;
+        lastCrossoverRate = adaptiveCrossoverRate;
+        
+        // Distribusi seleksi disiapkan sekali per generasi; slot yang diganti di tengah generasi
+        // tetap memakai bobot individu lama sampai prepare berikutnya
+        selectionStrategy.prepare(population, fitnessFunction);
+        t = lap(GenerationMetrics.Phase.SELECTION, t);
+        
+        if (mutationStrategy instanceof AdaptiveMutation) {
+            ((AdaptiveMutation) mutationStrategy).updateStatistics(new PopulationStatistics(
+                currentGeneration, currentDiversity, fitnessStdDev, rankedPopulation.getBestFitness(), averageFitness));
+        }
+        t = lap(GenerationMetrics.Phase.STATISTICS, t);
+        
+        localSearchEvaluations = 0;
+        Chromosome[] batch = steadyStateBuffer;
+        for (int produced = 0; produced < populationSize && bestFitness > 0.0; produced += batch.length) {
+            for (int i = 0; i < batch.length; i += 2) {
+                Chromosome parent1 = selectionStrategy.selectReference(population, fitnessFunction, random);
+                Chromosome parent2 = selectionStrategy.selectReference(population, fitnessFunction, random);
+                t = lap(GenerationMetrics.Phase.SELECTION, t);
+                
+                if (random.nextDouble() < adaptiveCrossoverRate) {
+                    crossoverStrategy.crossoverInto(parent1, parent2, batch[i], batch[i + 1], random);
+                } else {
+                    batch[i].copyFrom(parent1);
+                    batch[i + 1].copyFrom(parent2);
+                }
+                t = lap(GenerationMetrics.Phase.CROSSOVER, t);
+                
+                mutationStrategy.mutate(batch[i], mutationRate, random);
+                mutationStrategy.mutate(batch[i + 1], mutationRate, random);
+                if (forcedCellPinning) {
+                    heuristics.applyForcedCells(batch[i]);
+                    heuristics.applyForcedCells(batch[i + 1]);
+                }
+                t = lap(GenerationMetrics.Phase.MUTATION, t);
+            }
+            
+            evaluate(batch);
+            t = lap(GenerationMetrics.Phase.EVALUATION, t);
+            
+            if (localSearch != null) {
+                long before = localSearch.getTotalEvaluations();
+                localSearch.apply(batch, 0, fitnessFunction, random);
+                localSearchEvaluations += localSearch.getTotalEvaluations() - before;
+            }
+            t = lap(GenerationMetrics.Phase.LOCAL_SEARCH, t);
+            
+            // Offspring menggantikan individu terburuk; yang tergantikan menjadi buffer offspring berikutnya
+            for (int i = 0; i < batch.length; i++) {
+                Chromosome child = batch[i];
+                if (child.getFitness() > rankedPopulation.getWorstFitness()) {
+                    continue;
+                }
+                int worst = rankedPopulation.getWorstSlot();
+                batch[i] = population[worst];
+                population[worst] = child;
+                rankedPopulation.update(worst, child.getFitness());
+                if (child.getFitness() < bestFitness) {
+                    bestFitness = child.getFitness();
+                    bestChromosome = child.clone();
+                }
+            }
+            t = lap(GenerationMetrics.Phase.SELECTION, t);
+        }
+        
+        updatePopulationStatistics();
+        lap(GenerationMetrics.Phase.STATISTICS, t);
+        currentGeneration++;
+    }
+    
+    //Menyiapkan peringkat dan buffer offspring steady-state (sekali, atau setelah ukuran berubah)
+    private void ensureSteadyStateBuffers() {
+        if (rankedPopulation == null || rankedPopulation.getSize() != populationSize) {
+            rankedPopulation = new RankedPopulation(populationSize);
+        }
+        if (steadyStateBuffer == null || steadyStateBuffer.length != steadyStateOffspring) {
+            steadyStateBuffer = new Chromosome[steadyStateOffspring];
+            for (int i = 0; i < steadyStateOffspring; i++) {
+                steadyStateBuffer[i] = new Chromosome(puzzle.getWidth(), puzzle.getHeight(), new boolean[0]);
+            }
+        }
+    }
+    
+    //Menambah waktu sejak start ke fase tertentu; return waktu sekarang (0 jika tidak diukur)
+    private long lap(GenerationMetrics.Phase phase, long start) {
+        if (!timed) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()] += now - start;
+        return now;
+    }
+    
+    //Reproduksi ke array populasi baru (clone elite dan parent, crossover membuat kromosom baru)
+    private void breed(int currentElitism, double adaptiveCrossoverRate) {
+        long t = timed ? System.nanoTime() : 0L;
+        Chromosome[] newPopulation = new Chromosome[populationSize];
+        
+        for (int i = 0; i < currentElitism && i < populationSize; i++) {
+            newPopulation[i] = population[i].clone();
+        }
+        t = lap(GenerationMetrics.Phase.CROSSOVER, t);
         
         // Generate offspring
         for (int i = currentElitism; i < populationSize; i += 2) {
             Chromosome parent1 = selectionStrategy.select(population, fitnessFunction, random);
             Chromosome parent2 = selectionStrategy.select(population, fitnessFunction, random);
+            t = lap(GenerationMetrics.Phase.SELECTION, t);
             
             Chromosome[] offspring;
             if (random.nextDouble() < adaptiveCrossoverRate) {
@@ -480,15 +898,13 @@ public class ImprovedGeneticAlgorithm {
             } else {
                 offspring = new Chromosome[]{parent1.clone(), parent2.clone()};
             }
+            t = lap(GenerationMetrics.Phase.CROSSOVER, t);
             
             // Mutation dengan adaptive rate
             for (Chromosome child : offspring) {
-                if (mutationStrategy instanceof AdaptiveMutation) {
-                    ((AdaptiveMutation) mutationStrategy).updateGeneration(currentGeneration);
-                    ((AdaptiveMutation) mutationStrategy).updatePopulation(population);
-                }
                 mutationStrategy.mutate(child, mutationRate, random);
             }
+            t = lap(GenerationMetrics.Phase.MUTATION, t);
             
             if (i < populationSize) {
                 newPopulation[i] = offspring[0];
@@ -499,138 +915,285 @@ public class ImprovedGeneticAlgorithm {
         }
         
         population = newPopulation;
-        evaluatePopulation();
-        updateBestChromosome();
-        updatePopulationStatistics();
-        currentGeneration++;
+    }
+    
+    //Reproduksi ke buffer arena: elite disalin dan offspring ditulis ke kromosom yang sudah ada,
+    //lalu buffer ditukar. Urutan pemakaian random sama persis dengan breed().
+    private void breedIntoArena(int currentElitism, double adaptiveCrossoverRate) {
+        long t = timed ? System.nanoTime() : 0L;
+        ensureArena();
+        Chromosome[] newPopulation = nextPopulation;
+        
+        for (int i = 0; i < currentElitism && i < populationSize; i++) {
+            newPopulation[i].copyFrom(population[i]);
+        }
+        t = lap(GenerationMetrics.Phase.CROSSOVER, t);
+        
+        for (int i = currentElitism; i < populationSize; i += 2) {
+            Chromosome parent1 = selectionStrategy.selectReference(population, fitnessFunction, random);
+            Chromosome parent2 = selectionStrategy.selectReference(population, fitnessFunction, random);
+            t = lap(GenerationMetrics.Phase.SELECTION, t);
+            
+            Chromosome child1 = newPopulation[i];
+            Chromosome child2 = (i + 1 < populationSize) ? newPopulation[i + 1] : spareOffspring;
+            
+            if (random.nextDouble() < adaptiveCrossoverRate) {
+                crossoverStrategy.crossoverInto(parent1, parent2, child1, child2, random);
+            } else {
+                child1.copyFrom(parent1);
+                child2.copyFrom(parent2);
+            }
+            t = lap(GenerationMetrics.Phase.CROSSOVER, t);
+            
+            mutationStrategy.mutate(child1, mutationRate, random);
+            mutationStrategy.mutate(child2, mutationRate, random);
+            t = lap(GenerationMetrics.Phase.MUTATION, t);
+        }
+        
+        nextPopulation = population;
+        population = newPopulation;
+        if (populationStore) {
+            PopulationStore store = currentStore;
+            currentStore = nextStore;
+            nextStore = store;
+        }
+    }
+    
+    //Menyiapkan buffer arena (sekali, atau setelah ukuran populasi berubah)
+    private void ensureArena() {
+        if (nextPopulation != null && nextPopulation.length == populationSize && spareOffspring != null) {
+            return;
+        }
+        if (populationStore) {
+            currentStore = new PopulationStore(populationSize, puzzle.getWidth(), puzzle.getHeight());
+            nextStore = new PopulationStore(populationSize, puzzle.getWidth(), puzzle.getHeight());
+            nextPopulation = nextStore.getViews();
+            spareOffspring = new Chromosome(puzzle.getWidth(), puzzle.getHeight(), new boolean[0]);
+            return;
+        }
+        nextPopulation = new Chromosome[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            nextPopulation[i] = new Chromosome(puzzle.getWidth(), puzzle.getHeight(), new boolean[0]);
+        }
+        spareOffspring = new Chromosome(puzzle.getWidth(), puzzle.getHeight(), new boolean[0]);
     }
     
     public Chromosome run() {
-        initializePopulation();
+        initialize();
+        
+        while (!isFinished()) {
+            step();
+        }
         
-        System.out.println("\n=== Improved Genetic Algorithm (Pure GA with Enhancements) ===");
-        System.out.println("Enhancements: Weighted Fitness, Advanced Heuristics, Anti-Stagnation Mechanisms");
-        System.out.println("Generation 0 - Best: " + String.format("%.2f", bestFitness) +
-            " - Avg: " + String.format("%.2f", averageFitness) +
-            " - Diversity: " + String.format("%.3f", currentDiversity));
+        if (!listeners.isEmpty()) {
+            // Listener yang ditambahkan di tengah run belum punya snapshot
+            GenerationMetrics last = (lastMetrics != null) ? lastMetrics
+                : snapshot(GenerationMetrics.EscapeType.NONE, 0, stoppedEarly, 0L, Double.NaN);
+            for (GenerationListener listener : listeners) {
+                listener.onFinish(last);
+            }
+        }
         
-        int escapeAttempts = 0;
-        int maxEscapeAttempts = 5;
+        return bestChromosome;
+    }
+    
+    //Inisialisasi populasi awal; setelah ini GA dapat dijalankan per generasi dengan step()
+    public void initialize() {
+        long start = listeners.isEmpty() ? 0L : System.nanoTime();
+        initializePopulation();
+        escapeAttempts = 0;
+        stoppedEarly = false;
+        lastMetrics = null;
+        lastElitism = elitismCount;
+        lastCrossoverRate = crossoverRate;
         
-        while (currentGeneration < maxGenerations && bestFitness > 0.0) {
+        if (!listeners.isEmpty()) {
+            // Populasi awal sudah terurut: median tersedia tanpa sort tambahan
+            Arrays.fill(phaseNanos, 0L);
+            localSearchEvaluations = 0;
+            GenerationMetrics initial = snapshot(GenerationMetrics.EscapeType.NONE, 0, false,
+                System.nanoTime() - start, population[population.length / 2].getFitness());
+            for (GenerationListener listener : listeners) {
+                listener.onStart(initial);
+            }
+        }
+    }
+    
+    //Membuat snapshot metrik dari status GA sekarang
+    private GenerationMetrics snapshot(GenerationMetrics.EscapeType escapeType, int escapeStagnation,
+                                       boolean earlyStopped, long totalNanos, double medianFitness) {
+        long evaluations = totalEvaluations - reportedEvaluations;
+        reportedEvaluations = totalEvaluations;
+        lastMetrics = new GenerationMetrics(
+            currentGeneration, bestFitness, averageFitness, worstFitness, medianFitness,
+            currentDiversity, fitnessStdDev,
+            lastElitism, lastCrossoverRate, stagnationCount, improvementRate,
+            escapeType, escapeStagnation, escapeAttempts, earlyStopped,
+            evaluations, localSearchEvaluations, phaseNanos.clone(), totalNanos);
+        return lastMetrics;
+    }
+    
+    //Mengirim snapshot generasi ini ke semua listener
+    private void notifyGeneration(GenerationMetrics.EscapeType escapeType, int escapeStagnation, long start) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        GenerationMetrics metrics = snapshot(escapeType, escapeStagnation, stoppedEarly,
+            System.nanoTime() - start, Double.NaN);
+        for (GenerationListener listener : listeners) {
+            listener.onGeneration(metrics);
+        }
+    }
+    
+    //Apakah GA sudah selesai (max generasi, solusi ditemukan, early stop, atau diminta berhenti)
+    public boolean isFinished() {
+        return currentGeneration >= maxGenerations || bestFitness <= 0.0 || stoppedEarly || stopRequested;
+    }
+    
+    //Meminta GA berhenti sebelum generasi berikutnya (aman dipanggil dari thread lain)
+    public void requestStop() {
+        stopRequested = true;
+    }
+    
+    //Apakah GA berhenti karena early stopping
+    public boolean isStoppedEarly() {
+        return stoppedEarly;
+    }
+    
+    //Menjalankan satu generasi: reproduksi, tracking improvement, early stop dan escape mechanism
+    public void step() {
+        long start = listeners.isEmpty() ? 0L : System.nanoTime();
+        if (steadyStateOffspring > 0) {
+            createSteadyStateGeneration();
+        } else {
             createNewGeneration();
+        }
+        
+        // Check improvement dan update improvement rate
+        if (bestFitness < previousBestFitness - 0.0001) {
+            // Ada improvement, hitung improvement rate
+            double improvement = previousBestFitness - bestFitness;
+            double improvementRatio = (previousBestFitness > 0) ? improvement / previousBestFitness : 0.0;
             
-            // Check improvement dan update improvement rate
-            if (bestFitness < previousBestFitness - 0.0001) {
-                // Ada improvement, hitung improvement rate
-                double improvement = previousBestFitness - bestFitness;
-                double improvementRatio = (previousBestFitness > 0) ? improvement / previousBestFitness : 0.0;
-                
-                // Update improvement rate
-                improvementRate = (improvementRate * 0.7) + (improvementRatio * 0.3);
-                
-                previousBestFitness = bestFitness;
-                stagnationCount = 0;
-            } else {
-                // Tidak ada improvement, kurangi improvement rate
-                improvementRate *= 0.95;
-                stagnationCount++;
+            // Update improvement rate
+            improvementRate = (improvementRate * 0.7) + (improvementRatio * 0.3);
+            
+            previousBestFitness = bestFitness;
+            stagnationCount = 0;
+        } else {
+            // Tidak ada improvement, kurangi improvement rate
+            improvementRate *= 0.95;
+            stagnationCount++;
+        }
+        
+        // Early stopping check
+        if (shouldStopEarly()) {
+            stoppedEarly = true;
+            notifyGeneration(GenerationMetrics.EscapeType.NONE, 0, start);
+            return;
+        }
+        
+        GenerationMetrics.EscapeType escapeType = GenerationMetrics.EscapeType.NONE;
+        int escapeStagnation = 0;
+        
+        // Protect best solutions
+        boolean isFineTuningMode = (bestFitness < 15.0);
+        
+        // Check stagnation
+        if (isStagnating() && !isFineTuningMode) {
+            int triggerInterval = 8;  
+            if (maxGenerations > 2000) triggerInterval = 6;  
+            if (maxGenerations > 4000) triggerInterval = 5;  
+            
+            if (populationSize > maxGenerations) {
+                triggerInterval = Math.max(5, triggerInterval - 2);  
+            }
+            
+            if (improvementRate < 0.002) {
+                triggerInterval = Math.max(4, triggerInterval - 3);  
+            }
+            if (bestFitness > 15.0) {
+                triggerInterval = Math.max(5, triggerInterval - 2);  
             }
             
-            // Early stopping check
-            if (shouldStopEarly()) {
-                System.out.println("\n[Early Stop] Stopping early due to low progress probability");
-                System.out.println("  Best Fitness: " + String.format("%.2f", bestFitness));
-                System.out.println("  Improvement Rate: " + String.format("%.6f", improvementRate));
-                System.out.println("  Diversity: " + String.format("%.3f", currentDiversity));
-                break;
+            if (stagnationCount > 8) {  
+                triggerInterval = Math.max(3, triggerInterval / 2);  
             }
             
-            // Protect best solutions
-            boolean isFineTuningMode = (bestFitness < 15.0);
+            boolean shouldTriggerEscape = (stagnationCount % triggerInterval == 0);
             
-            // Check stagnation
-            if (isStagnating() && !isFineTuningMode) {
-                int triggerInterval = 8;  
-                if (maxGenerations > 2000) triggerInterval = 6;  
-                if (maxGenerations > 4000) triggerInterval = 5;  
-                
-                if (populationSize > maxGenerations) {
-                    triggerInterval = Math.max(5, triggerInterval - 2);  
-                }
-                
-                if (improvementRate < 0.002) {
-                    triggerInterval = Math.max(4, triggerInterval - 3);  
-                }
-                if (bestFitness > 15.0) {
-                    triggerInterval = Math.max(5, triggerInterval - 2);  
-                }
-                
-                if (stagnationCount > 8) {  
-                    triggerInterval = Math.max(3, triggerInterval / 2);  
-                }
-                
-                boolean shouldTriggerEscape = (stagnationCount % triggerInterval == 0);
-                
-                if (currentDiversity < initialDiversity * 0.15 || improvementRate < 0.0001) {
-                    shouldTriggerEscape = true;  
-                }
-                
-                if (bestFitness < previousBestFitness - 0.001 && stagnationCount < 10) {
-                    shouldTriggerEscape = false;  
-                }
-                
-                if (shouldTriggerEscape && escapeAttempts < maxEscapeAttempts) {
-                    System.out.println("\n[Stagnation " + stagnationCount + "] Applying Exploration focused escape mechanism...");
-                    if (bestFitness < 5.0 && stagnationCount <= 15) {
-                        // Near solution: hanya mutation boost
-                        escapeMutationBoost();
-                    } else if (stagnationCount <= 20) {  
-                        // Early stagnation: mutation boost + random exploration
-                        escapeMutationBoost();
-                    } else if (stagnationCount <= 40) {  
-                        // Medium stagnation: aggressive diversity injection + hybrid creation
-                        escapeDiversityInjection();
-                    } else {
-                        // Severe stagnation: aggressive partial restart + population expansion
-                        escapePartialRestart();
-                        escapeAttempts++;
-                    }
-                    
-                    updatePopulationStatistics();
-                    
-                    // Reset stagnation count setelah escape
-                    stagnationCount = 0;
-                    improvementRate = 0.01;  // Reset improvement rate setelah escape
-                }
+            if (currentDiversity < initialDiversity * 0.15 || improvementRate < 0.0001) {
+                shouldTriggerEscape = true;  
             }
             
-            // Print progress dengan adaptive parameters info
-            if (currentGeneration % 10 == 0 || bestFitness == 0.0) {
-                String stagIndicator = (stagnationCount > 0) ? " [Stag:" + stagnationCount + "]" : "";
-                String improvementInfo = String.format(" [ImpRate:%.4f]", improvementRate);
-                System.out.println("Gen " + currentGeneration + 
-                    " - Best: " + String.format("%.2f", bestFitness) +
-                    " - Avg: " + String.format("%.2f", averageFitness) +
-                    " - Div: " + String.format("%.3f", currentDiversity) +
-                    improvementInfo + stagIndicator);
+            if (bestFitness < previousBestFitness - 0.001 && stagnationCount < 10) {
+                shouldTriggerEscape = false;  
             }
             
-            if (bestFitness == 0.0) {
-                System.out.println("\n*** SOLUTION FOUND at generation " + currentGeneration + "! ***");
-                break;
+            if (shouldTriggerEscape && escapeAttempts < maxEscapeAttempts) {
+                long t = timed ? System.nanoTime() : 0L;
+                escapeStagnation = stagnationCount;
+                if (bestFitness < 5.0 && stagnationCount <= 15) {
+                    // Near solution: hanya mutation boost
+                    escapeType = GenerationMetrics.EscapeType.MUTATION_BOOST;
+                    escapeMutationBoost();
+                } else if (stagnationCount <= 20) {  
+                    // Early stagnation: mutation boost + random exploration
+                    escapeType = GenerationMetrics.EscapeType.MUTATION_BOOST;
+                    escapeMutationBoost();
+                } else if (stagnationCount <= 40) {  
+                    // Medium stagnation: aggressive diversity injection + hybrid creation
+                    escapeType = GenerationMetrics.EscapeType.DIVERSITY_INJECTION;
+                    escapeDiversityInjection();
+                } else {
+                    // Severe stagnation: aggressive partial restart + population expansion
+                    escapeType = GenerationMetrics.EscapeType.PARTIAL_RESTART;
+                    escapePartialRestart();
+                    escapeAttempts++;
+                }
+                
+                updatePopulationStatistics();
+                lap(GenerationMetrics.Phase.ESCAPE, t);
+                
+                // Reset stagnation count setelah escape
+                stagnationCount = 0;
+                improvementRate = 0.01;  // Reset improvement rate setelah escape
             }
         }
         
-        System.out.println("\n=== Results ===");
-        System.out.println("Final Generation: " + currentGeneration);
-        System.out.println("Best Fitness: " + String.format("%.2f", bestFitness));
-        System.out.println("Solution Found: " + (bestFitness == 0.0 ? "YES" : "NO"));
-        if (escapeAttempts > 0) {
-            System.out.println("Escape Attempts: " + escapeAttempts);
+        notifyGeneration(escapeType, escapeStagnation, start);
+    }
+    
+    //Salinan count individu terbaik (untuk migrasi antar island)
+    public Chromosome[] getBestIndividuals(int count) {
+        Chromosome[] sorted = population.clone();
+        Arrays.sort(sorted, new Comparator<Chromosome>() {
+            @Override
+            public int compare(Chromosome c1, Chromosome c2) {
+                return Double.compare(c1.getFitness(), c2.getFitness());
+            }
+        });
+        int n = Math.min(count, sorted.length);
+        Chromosome[] best = new Chromosome[n];
+        for (int i = 0; i < n; i++) {
+            best[i] = sorted[i].clone();
         }
+        return best;
+    }
+    
+    //Menerima migran dari island lain: menggantikan individu terburuk
+    public void acceptMigrants(Chromosome[] migrants) {
+        sortPopulation();
         
-        return bestChromosome;
+        // Sisakan minimal setengah populasi asli
+        int count = Math.min(migrants.length, populationSize / 2);
+        for (int i = 0; i < count; i++) {
+            Chromosome migrant = migrants[i].clone();
+            fitnessFunction.calculateFitness(migrant);
+            totalEvaluations++;
+            population[populationSize - 1 - i] = migrant;
+        }
+        updateBestChromosome();
     }
     
     public Chromosome getBestChromosome() { return bestChromosome; }
@@ -648,5 +1211,8 @@ public class ImprovedGeneticAlgorithm {
     public int getMaxGenerations() { return maxGenerations; }
     public int getElitismCount() { return elitismCount; }       
     public double getImprovementRate() { return improvementRate; }
+    public int getStagnationCount() { return stagnationCount; }
+    public int getEscapeAttempts() { return escapeAttempts; }
+    public long getTotalEvaluations() { return totalEvaluations; }
 }
 
@@ -0,0 +1,227 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Island model GA: K populasi ImprovedGeneticAlgorithm yang berjalan independen
+ * di thread masing-masing, dengan migrasi berkala.
+ *
+ * Cara kerja:
+ * 1. Setiap island menjalankan initialize() lalu step() per generasi
+ * 2. Setiap migrationInterval generasi, setiap island mengirim migrantCount individu
+ *    terbaiknya; semua island bertemu di barrier (Phaser) dan migran dirutekan sesuai topology
+ * 3. Migran menggantikan individu terburuk di island tujuan
+ * 4. Global best dibagi antar island; begitu satu island menemukan fitness 0,
+ *    semua island berhenti
+ *
+ * Setiap island harus punya instance strategi sendiri (AdaptiveMutation dan
+ * RouletteWheelSelection menyimpan state), karena itu island dibuat lewat IslandFactory.
+ */
+public class IslandModelGA {
+    //Topology migrasi
+    public enum Topology {
+        RING,            // island i menerima dari island i-1
+        FULLY_CONNECTED  // island i menerima migran terbaik dari semua island lain
+    }
+
+    //Factory untuk membuat GA satu island dengan seed tertentu
+    public interface IslandFactory {
+        ImprovedGeneticAlgorithm create(int island, long seed);
+    }
+
+    private final int islandCount;
+    private final IslandFactory factory;
+    private final Topology topology;
+    private final int migrationInterval;
+    private final int migrantCount;
+    private final long seed;
+
+    //Island yang sedang/selesai berjalan
+    private ImprovedGeneticAlgorithm[] islands;
+
+    //Buffer migrasi: outbox diisi island sebelum barrier, inbox diisi saat barrier advance
+    private Chromosome[][] outbox;
+    private Chromosome[][] inbox;
+
+    //Global best (dijaga dengan lock this)
+    private Chromosome bestChromosome;
+    private double bestFitness = Double.MAX_VALUE;
+    private int bestIsland = -1;
+
+    //Flag berhenti bersama
+    private final AtomicBoolean solutionFound = new AtomicBoolean(false);
+
+    //Jumlah migrasi yang terjadi
+    private int migrations;
+
+    //Constructor
+    public IslandModelGA(int islandCount, IslandFactory factory, Topology topology,
+                         int migrationInterval, int migrantCount, long seed) {
+        if (islandCount < 1) {
+            throw new IllegalArgumentException("islandCount must be >= 1");
+        }
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("migrationInterval must be >= 1");
+        }
+        this.islandCount = islandCount;
+        this.factory = factory;
+        this.topology = topology;
+        this.migrationInterval = migrationInterval;
+        this.migrantCount = Math.max(0, migrantCount);
+        this.seed = seed;
+    }
+
+    //Menjalankan semua island sampai selesai dan mengembalikan kromosom terbaik global
+    public Chromosome run() {
+        islands = new ImprovedGeneticAlgorithm[islandCount];
+        outbox = new Chromosome[islandCount][];
+        inbox = new Chromosome[islandCount][];
+        for (int i = 0; i < islandCount; i++) {
+            // Seed berbeda per island, tetap deterministik terhadap seed dasar
+            islands[i] = factory.create(i, seed + 1000L * i);
+        }
+
+        Phaser migrationBarrier = new Phaser(islandCount) {
+            @Override
+            protected boolean onAdvance(int phase, int registeredParties) {
+                // Advance terakhir terjadi saat island terakhir deregister: tidak ada yang menerima migran
+                if (registeredParties > 0) {
+                    routeMigrants();
+                }
+                return registeredParties == 0;
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(islandCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < islandCount; i++) {
+                final int island = i;
+                futures.add(executor.submit(() -> runIsland(island, migrationBarrier)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Island model run failed", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return bestChromosome;
+    }
+
+    //Loop satu island
+    private void runIsland(int island, Phaser migrationBarrier) {
+        ImprovedGeneticAlgorithm ga = islands[island];
+        try {
+            ga.initialize();
+            publishBest(island, ga);
+
+            while (!ga.isFinished() && !solutionFound.get()) {
+                ga.step();
+                publishBest(island, ga);
+                if (ga.isSolutionFound()) {
+                    break;
+                }
+
+                if (migrantCount > 0 && ga.getCurrentGeneration() % migrationInterval == 0) {
+                    outbox[island] = ga.getBestIndividuals(migrantCount);
+                    migrationBarrier.arriveAndAwaitAdvance();
+
+                    Chromosome[] incoming = inbox[island];
+                    if (!solutionFound.get() && incoming != null && incoming.length > 0) {
+                        ga.acceptMigrants(incoming);
+                        publishBest(island, ga);
+                    }
+                }
+            }
+        } finally {
+            // Island selesai: tidak lagi mengirim migran dan tidak menahan barrier
+            outbox[island] = null;
+            migrationBarrier.arriveAndDeregister();
+        }
+    }
+
+    //Dipanggil sekali per barrier (oleh thread terakhir yang tiba): merutekan outbox ke inbox.
+    //Barrier juga maju saat island selesai (arriveAndDeregister); ronde tanpa outbox tidak dihitung.
+    private void routeMigrants() {
+        boolean sent = false;
+        for (int i = 0; i < islandCount; i++) {
+            inbox[i] = null;
+            sent |= (outbox[i] != null);
+        }
+
+        for (int i = 0; i < islandCount; i++) {
+            if (outbox[i] == null) {
+                continue;
+            }
+            if (topology == Topology.RING) {
+                int source = (i - 1 + islandCount) % islandCount;
+                if (source != i && outbox[source] != null) {
+                    inbox[i] = outbox[source];
+                }
+            } else {
+                List<Chromosome> candidates = new ArrayList<>();
+                for (int j = 0; j < islandCount; j++) {
+                    if (j != i && outbox[j] != null) {
+                        candidates.addAll(Arrays.asList(outbox[j]));
+                    }
+                }
+                candidates.sort(Comparator.comparingDouble(Chromosome::getFitness));
+                int n = Math.min(migrantCount, candidates.size());
+                inbox[i] = candidates.subList(0, n).toArray(new Chromosome[0]);
+            }
+        }
+
+        for (int i = 0; i < islandCount; i++) {
+            outbox[i] = null;
+        }
+        if (sent) {
+            migrations++;
+        }
+    }
+
+    //Memperbarui global best dari island tertentu
+    private synchronized void publishBest(int island, ImprovedGeneticAlgorithm ga) {
+        if (ga.getBestChromosome() != null && ga.getBestFitness() < bestFitness) {
+            bestFitness = ga.getBestFitness();
+            bestChromosome = ga.getBestChromosome().clone();
+            bestIsland = island;
+        }
+        if (bestFitness == 0.0 && solutionFound.compareAndSet(false, true)) {
+            for (ImprovedGeneticAlgorithm other : islands) {
+                other.requestStop();
+            }
+        }
+    }
+
+    public synchronized Chromosome getBestChromosome() { return bestChromosome; }
+    public synchronized double getBestFitness() { return bestFitness; }
+    public synchronized int getBestIsland() { return bestIsland; }
+    public boolean isSolutionFound() { return solutionFound.get(); }
+    public int getMigrations() { return migrations; }
+    public int getIslandCount() { return islandCount; }
+
+    //Island ke-i (tersedia setelah run() dipanggil)
+    public ImprovedGeneticAlgorithm getIsland(int i) {
+        return islands[i];
+    }
+
+    //Generasi terbanyak yang dicapai island mana pun
+    public int getMaxGeneration() {
+        int max = 0;
+        if (islands != null) {
+            for (ImprovedGeneticAlgorithm ga : islands) {
+                max = Math.max(max, ga.getCurrentGeneration());
+            }
+        }
+        return max;
+    }
+}
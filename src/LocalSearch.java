@@ -0,0 +1,251 @@
+import java.util.Random;
+
+/**
+ * Tahap memetic: hill-climb first-improvement pada offspring terbaik setiap generasi.
+ *
+ * Cara kerja:
+ * 1. Pilih topK offspring (index >= elitism) dengan fitness terkecil
+ * 2. Untuk setiap individu, ulangi sampai tidak ada perbaikan atau budget habis:
+ *    - Flip satu gen (hanya sel yang tercakup hint), diterima jika fitness turun
+ *    - Jika tidak ada flip yang memperbaiki: swap sel hitam dan putih di area 3x3
+ *      satu hint (jumlah hitam hint itu tetap), diterima jika fitness turun
+ * 3. Setiap langkah dinilai dengan FitnessFunction.deltaFitness (update incremental
+ *    O(hint di sekitar sel)), bukan calculateFitness penuh
+ *
+ * Budget per generasi: jumlah evaluasi delta dan (opsional) waktu. Budget waktu membuat
+ * hasil tidak deterministik, karena itu default-nya tidak aktif.
+ */
+public class LocalSearch {
+    //Perbaikan lebih kecil dari ini dianggap rounding error
+    private static final double EPSILON = 1e-9;
+
+    //Jumlah offspring terbaik yang diperbaiki setiap generasi
+    private final int topK;
+
+    //Maksimal evaluasi delta per generasi
+    private final int maxEvaluations;
+
+    //Budget waktu per generasi dalam nanodetik (0 = tanpa batas waktu)
+    private long timeBudgetNanos;
+
+    //Maksimal putaran first-improvement per individu
+    private int maxPasses = 20;
+
+    //Statistik kumulatif
+    private long totalEvaluations;
+    private long totalImprovements;
+
+    //Buffer index kandidat (dipakai ulang antar generasi)
+    private int[] selected = new int[0];
+
+    //Sel yang tercakup minimal satu hint (di-cache per puzzle)
+    private HintIndex cachedIndex;
+    private int[] coveredCells;
+
+    //Constructor
+    public LocalSearch(int topK, int maxEvaluations) {
+        this.topK = Math.max(1, topK);
+        this.maxEvaluations = Math.max(1, maxEvaluations);
+    }
+
+    //Mengatur budget waktu per generasi (0 = tanpa batas)
+    public void setTimeBudgetMillis(long millis) {
+        this.timeBudgetNanos = Math.max(0, millis) * 1_000_000L;
+    }
+
+    //Mengatur maksimal putaran first-improvement per individu
+    public void setMaxPasses(int maxPasses) {
+        this.maxPasses = Math.max(1, maxPasses);
+    }
+
+    public int getTopK() { return topK; }
+    public int getMaxEvaluations() { return maxEvaluations; }
+    public long getTotalEvaluations() { return totalEvaluations; }
+    public long getTotalImprovements() { return totalImprovements; }
+
+    //Menerapkan hill-climb pada topK offspring populasi (index from..akhir, fitness sudah dihitung)
+    public void apply(Chromosome[] population, int from, FitnessFunction fitnessFunction, Random random) {
+        int k = selectBest(population, from);
+        if (k == 0) {
+            return;
+        }
+        prepareCells(fitnessFunction.getHintIndex());
+        if (coveredCells.length == 0) {
+            return;
+        }
+
+        Budget budget = new Budget();
+        for (int i = 0; i < k && budget.remaining(); i++) {
+            Chromosome chromosome = population[selected[i]];
+            if (chromosome.getFitness() == 0.0) {
+                continue;
+            }
+            if (climb(chromosome, fitnessFunction, random, budget)) {
+                totalImprovements++;
+            }
+            // Swap yang ditolak tetap menandai fitness perlu dihitung ulang
+            if (!chromosome.isFitnessCalculated()) {
+                fitnessFunction.calculateFitness(chromosome);
+            }
+            // State incremental hanya dipertahankan jika fitness function memang memakainya
+            if (!fitnessFunction.isIncrementalEvaluation()) {
+                chromosome.setFitnessState(null);
+            }
+        }
+        totalEvaluations += budget.evaluations;
+    }
+
+    //First-improvement hill-climb untuk satu kromosom; true jika ada perubahan
+    private boolean climb(Chromosome chromosome, FitnessFunction fitnessFunction, Random random, Budget budget) {
+        boolean changed = false;
+        for (int pass = 0; pass < maxPasses && budget.remaining(); pass++) {
+            boolean improved = flipPass(chromosome, fitnessFunction, random, budget);
+            if (!improved) {
+                improved = swapPass(chromosome, fitnessFunction, random, budget);
+            }
+            if (!improved) {
+                break;
+            }
+            changed = true;
+        }
+        return changed;
+    }
+
+    //Satu putaran flip gen, mulai dari posisi acak
+    private boolean flipPass(Chromosome chromosome, FitnessFunction fitnessFunction, Random random, Budget budget) {
+        boolean improved = false;
+        int n = coveredCells.length;
+        int start = random.nextInt(n);
+        for (int j = 0; j < n && budget.consume(); j++) {
+            int cell = coveredCells[(start + j) % n];
+            if (fitnessFunction.deltaFitness(chromosome, cell) < -EPSILON) {
+                chromosome.flipGene(cell);
+                improved = true;
+            }
+        }
+        return improved;
+    }
+
+    //Satu putaran swap hitam <-> putih di dalam area 3x3 satu hint, mulai dari hint acak
+    private boolean swapPass(Chromosome chromosome, FitnessFunction fitnessFunction, Random random, Budget budget) {
+        HintIndex hints = cachedIndex;
+        int hintCount = hints.getHintCount();
+        int width = hints.getWidth();
+        int height = hints.getHeight();
+        int start = random.nextInt(hintCount);
+
+        for (int j = 0; j < hintCount; j++) {
+            int h = (start + j) % hintCount;
+            int row = hints.getRow(h);
+            int col = hints.getCol(h);
+            int rowStart = Math.max(0, row - 1);
+            int rowEnd = Math.min(height - 1, row + 1);
+            int colStart = Math.max(0, col - 1);
+            int colEnd = Math.min(width - 1, col + 1);
+
+            for (int r1 = rowStart; r1 <= rowEnd; r1++) {
+                for (int c1 = colStart; c1 <= colEnd; c1++) {
+                    if (!chromosome.getCell(r1, c1)) {
+                        continue;
+                    }
+                    int black = r1 * width + c1;
+                    for (int r2 = rowStart; r2 <= rowEnd; r2++) {
+                        for (int c2 = colStart; c2 <= colEnd; c2++) {
+                            if (chromosome.getCell(r2, c2)) {
+                                continue;
+                            }
+                            if (!budget.consume()) {
+                                return false;
+                            }
+                            int white = r2 * width + c2;
+
+                            // Delta swap = delta flip pertama + delta flip kedua setelah flip pertama
+                            double first = fitnessFunction.deltaFitness(chromosome, black);
+                            chromosome.flipGene(black);
+                            double second = fitnessFunction.deltaFitness(chromosome, white);
+                            if (first + second < -EPSILON) {
+                                chromosome.flipGene(white);
+                                return true;
+                            }
+                            chromosome.flipGene(black);
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    //Mengisi selected dengan index topK offspring terbaik (urut fitness naik); return jumlahnya
+    private int selectBest(Chromosome[] population, int from) {
+        int k = Math.min(topK, population.length - from);
+        if (k <= 0) {
+            return 0;
+        }
+        if (selected.length < k) {
+            selected = new int[k];
+        }
+
+        // Insertion ke array kecil berukuran k, O(n * k)
+        int count = 0;
+        for (int i = from; i < population.length; i++) {
+            double fitness = population[i].getFitness();
+            if (count == k && fitness >= population[selected[k - 1]].getFitness()) {
+                continue;
+            }
+            int pos = (count < k) ? count++ : k - 1;
+            while (pos > 0 && population[selected[pos - 1]].getFitness() > fitness) {
+                selected[pos] = selected[pos - 1];
+                pos--;
+            }
+            selected[pos] = i;
+        }
+        return count;
+    }
+
+    //Menyiapkan daftar sel yang tercakup hint (flip sel lain tidak mengubah fitness)
+    private void prepareCells(HintIndex hints) {
+        if (hints == cachedIndex) {
+            return;
+        }
+        int cellCount = hints.getWidth() * hints.getHeight();
+        int count = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (hints.cellHintsBegin(cell) < hints.cellHintsEnd(cell)) {
+                count++;
+            }
+        }
+        coveredCells = new int[count];
+        for (int cell = 0, i = 0; cell < cellCount; cell++) {
+            if (hints.cellHintsBegin(cell) < hints.cellHintsEnd(cell)) {
+                coveredCells[i++] = cell;
+            }
+        }
+        cachedIndex = hints;
+    }
+
+    //Budget evaluasi dan waktu untuk satu generasi
+    private class Budget {
+        private final long deadline = (timeBudgetNanos > 0) ? System.nanoTime() + timeBudgetNanos : 0;
+        private int evaluations;
+        private boolean exhausted;
+
+        //Memakai satu evaluasi; false jika budget sudah habis
+        boolean consume() {
+            if (exhausted || evaluations >= maxEvaluations) {
+                exhausted = true;
+                return false;
+            }
+            evaluations++;
+            // Cek waktu setiap 64 evaluasi agar System.nanoTime() tidak mendominasi
+            if (deadline != 0 && (evaluations & 63) == 0 && System.nanoTime() > deadline) {
+                exhausted = true;
+            }
+            return true;
+        }
+
+        boolean remaining() {
+            return !exhausted && evaluations < maxEvaluations;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+import java.util.Arrays;
+
+/**
+ * Diversity engine berbasis jumlah alel 1 per lokus.
+ *
+ * Rata-rata Hamming distance semua pasangan dapat dihitung persis dari jumlah
+ * alel per lokus: untuk lokus dengan c individu bernilai 1 dari n individu,
+ * terdapat c * (n - c) pasangan yang berbeda di lokus tersebut. Sehingga
+ *   avgHamming = sum_l c_l * (n - c_l) / (n * (n - 1) / 2)
+ * yang dihitung dalam O(n * L) (hanya bit 1 yang dikunjungi, per word 64 sel),
+ * tanpa sampling.
+ *
+ * Jumlah sum_l c_l * (n - c_l) dipelihara secara incremental, sehingga menambah,
+ * menghapus atau mengganti individu hanya menyentuh lokus yang berubah dan
+ * getDiversity() bernilai O(1).
+ */
+public class LocusDiversity {
+    //Jumlah individu bernilai 1 per lokus (diindeks per posisi bit: word * 64 + bit)
+    private final int[] ones;
+    
+    //Jumlah word (total dan per baris) dan panjang kromosom
+    private final int wordCount;
+    private final int wordsPerRow;
+    private final int length;
+    
+    //Jumlah individu
+    private int size;
+    
+    //Total bit 1 di seluruh individu
+    private long totalOnes;
+    
+    //sum_l c_l * (n - c_l) = jumlah Hamming distance semua pasangan
+    private long pairDistanceSum;
+    
+    //Constructor untuk kromosom dengan ukuran papan tertentu
+    public LocusDiversity(int width, int height) {
+        this.wordsPerRow = Chromosome.wordsPerRow(width);
+        this.wordCount = wordsPerRow * height;
+        this.length = width * height;
+        this.ones = new int[wordCount * 64];
+    }
+    
+    //Constructor yang langsung memuat seluruh populasi
+    public LocusDiversity(Chromosome[] population) {
+        this(population[0].getWidth(), population[0].getHeight());
+        for (Chromosome chromosome : population) {
+            add(chromosome);
+        }
+    }
+    
+    //Menambahkan individu
+    public void add(Chromosome chromosome) {
+        // Menambah individu ke-(n+1): setiap lokus bernilai 0 pada individu baru menambah c pasangan
+        // berbeda, setiap lokus bernilai 1 menambah (n - c)
+        long delta = totalOnes;
+        for (int w = 0; w < wordCount; w++) {
+            long word = chromosome.getWord(w);
+            totalOnes += Long.bitCount(word);
+            int base = w << 6;
+            while (word != 0) {
+                int locus = base + Long.numberOfTrailingZeros(word);
+                delta += size - 2L * ones[locus];
+                ones[locus]++;
+                word &= word - 1;
+            }
+        }
+        pairDistanceSum += delta;
+        size++;
+    }
+    
+    //Menghapus individu (harus pernah ditambahkan dengan gen yang sama)
+    public void remove(Chromosome chromosome) {
+        size--;
+        for (int w = 0; w < wordCount; w++) {
+            long word = chromosome.getWord(w);
+            totalOnes -= Long.bitCount(word);
+            int base = w << 6;
+            while (word != 0) {
+                int locus = base + Long.numberOfTrailingZeros(word);
+                ones[locus]--;
+                pairDistanceSum -= size - 2L * ones[locus];
+                word &= word - 1;
+            }
+        }
+        pairDistanceSum -= totalOnes;
+    }
+    
+    //Mengganti individu oldChromosome dengan newChromosome; hanya lokus yang berbeda yang disentuh
+    public void replace(Chromosome oldChromosome, Chromosome newChromosome) {
+        for (int w = 0; w < wordCount; w++) {
+            long oldWord = oldChromosome.getWord(w);
+            long newWord = newChromosome.getWord(w);
+            long diff = oldWord ^ newWord;
+            int base = w << 6;
+            while (diff != 0) {
+                int bit = Long.numberOfTrailingZeros(diff);
+                int locus = base + bit;
+                int c = ones[locus];
+                if ((newWord & (1L << bit)) != 0) {
+                    // 0 -> 1: c(n-c) menjadi (c+1)(n-c-1)
+                    pairDistanceSum += size - 2L * c - 1;
+                    ones[locus] = c + 1;
+                    totalOnes++;
+                } else {
+                    // 1 -> 0: c(n-c) menjadi (c-1)(n-c+1)
+                    pairDistanceSum += 2L * c - size - 1;
+                    ones[locus] = c - 1;
+                    totalOnes--;
+                }
+                diff &= diff - 1;
+            }
+        }
+    }
+    
+    //Mengosongkan semua hitungan
+    public void clear() {
+        Arrays.fill(ones, 0);
+        size = 0;
+        totalOnes = 0;
+        pairDistanceSum = 0;
+    }
+    
+    //Jumlah individu
+    public int getSize() {
+        return size;
+    }
+    
+    //Jumlah individu yang selnya (row, col) hitam
+    public int getOnesCount(int row, int col) {
+        return ones[((row * wordsPerRow + (col >>> 6)) << 6) + (col & 63)];
+    }
+    
+    //Rata-rata Hamming distance semua pasangan
+    public double getAverageHammingDistance() {
+        if (size < 2) {
+            return 0.0;
+        }
+        double pairs = (double) size * (size - 1) / 2.0;
+        return pairDistanceSum / pairs;
+    }
+    
+    //Diversity = rata-rata Hamming distance / panjang kromosom (0..1)
+    public double getDiversity() {
+        if (size < 2 || length == 0) {
+            return 0.0;
+        }
+        return getAverageHammingDistance() / length;
+    }
+}
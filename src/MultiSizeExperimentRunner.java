@@ -1,10 +1,20 @@
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * Kelas MultiSizeExperimentRunner - Menjalankan eksperimen untuk berbagai ukuran puzzle
@@ -19,6 +29,42 @@ import java.util.Scanner;
  */
 public class MultiSizeExperimentRunner {
     
+    //Opsi command line --memetic: hill-climb LocalSearch pada offspring terbaik setiap generasi
+    private static boolean memetic = false;
+    
+    //Opsi command line --pin: seed dan pin sel yang dipaksa puzzle (ConstraintPropagator)
+    private static boolean pinForcedCells = false;
+    
+    //Opsi command line --metrics: ringkasan waktu per fase GA (PhaseTimingListener)
+    private static boolean metrics = false;
+    
+    //Opsi command line --cache N: cache fitness N entry per GA (0 = tidak aktif)
+    private static int fitnessCacheSize = 0;
+    
+    //Opsi command line --bitsliced: evaluasi fitness bit-sliced, 64 individu per word
+    private static boolean bitSliced = false;
+    
+    //Opsi command line --no-arena: GA memakai jalur reproduksi biasa (clone per offspring) alih-alih
+    //arena populasi; hasil identik, berguna untuk membandingkan. Diabaikan jika --store dipakai.
+    private static boolean populationArena = true;
+    
+    //Opsi command line --store: populasi disimpan di PopulationStore (gen bersambung, radix sort fitness)
+    private static boolean populationStore = false;
+    
+    //Opsi command line --offheap N [--map FILE]: GA steady-state dengan N individu di luar heap
+    //(OffHeapPopulation, opsional file memory-mapped), untuk populasi sangat besar
+    private static int offHeapSize = 0;
+    private static String offHeapFile = null;
+    
+    //Opsi command line --steady-state K: GA steady-state, K offspring per batch (0 = generational)
+    private static int steadyStateOffspring = 0;
+    
+    //Opsi command line --selection NAME[:PARAM]: roulette (default), tournament[:k] atau truncation[:fraksi]
+    private static String selectionMode = "roulette";
+    
+    //Opsi command line --node-limit: batas node solver exact per puzzle (berguna untuk corpus besar)
+    private static long nodeLimit = Long.MAX_VALUE;
+    
     /**
      * Menjalankan eksperimen untuk semua puzzle di folder examples
      * 
@@ -26,50 +72,27 @@ public class MultiSizeExperimentRunner {
      * @param baseSeed Seed dasar untuk random
      */
     public static void runExperimentsForAllPuzzles(String examplesFolder, long baseSeed) {
+        runExperimentsForAllPuzzles(examplesFolder, baseSeed, null);
+    }
+    
+    /**
+     * Menjalankan eksperimen untuk semua puzzle di folder examples dengan solver tertentu
+     * 
+     * @param examplesFolder Folder yang berisi file puzzle
+     * @param baseSeed Seed dasar untuk random
+     * @param solver Solver alternatif (null = GA)
+     */
+    public static void runExperimentsForAllPuzzles(String examplesFolder, long baseSeed, SolverStrategy solver) {
         System.out.println("========================================");
         System.out.println("   MULTI-SIZE PUZZLE EXPERIMENTS");
         System.out.println("========================================\n");
         
-        // Dapatkan semua file puzzle
-        File folder = new File(examplesFolder);
-        File[] files = folder.listFiles((dir, name) -> name.startsWith("puzzle_") && name.endsWith(".txt"));
-        
-        if (files == null || files.length == 0) {
+        File[] files = listPuzzleFiles(examplesFolder);
+        if (files == null) {
             System.out.println("No puzzle files found in " + examplesFolder);
             return;
         }
         
-        // Urutkan file berdasarkan ukuran puzzle (dari terkecil ke terbesar)
-        Arrays.sort(files, new Comparator<File>() {
-            @Override
-            public int compare(File f1, File f2) {
-                try {
-                    // Baca ukuran puzzle dari file
-                    Puzzle p1 = loadPuzzleFromFile(f1.getPath());
-                    Puzzle p2 = loadPuzzleFromFile(f2.getPath());
-                    
-                    int size1 = p1.getWidth() * p1.getHeight();
-                    int size2 = p2.getWidth() * p2.getHeight();
-                    
-                    // Urutkan berdasarkan ukuran (terkecil dulu)
-                    if (size1 != size2) {
-                        return Integer.compare(size1, size2);
-                    }
-                    
-                    // Jika ukuran sama, urutkan berdasarkan width
-                    if (p1.getWidth() != p2.getWidth()) {
-                        return Integer.compare(p1.getWidth(), p2.getWidth());
-                    }
-                    
-                    // Jika width sama, urutkan berdasarkan nama file
-                    return f1.getName().compareTo(f2.getName());
-                } catch (Exception e) {
-                    // Jika error membaca file, urutkan berdasarkan nama
-                    return f1.getName().compareTo(f2.getName());
-                }
-            }
-        });
-        
         System.out.println("Found " + files.length + " puzzle files:");
         
         List<ExperimentSummary> summaries = new ArrayList<>();
@@ -83,32 +106,14 @@ public class MultiSizeExperimentRunner {
             
             try {
                 Puzzle puzzle = loadPuzzleFromFile(file.getPath());
-                System.out.println("\nPuzzle " + puzzle.getWidth() + "x" + puzzle.getHeight() + ":");
-                puzzle.print();
-                
-                // Tentukan parameter berdasarkan ukuran puzzle
-                ExperimentConfig config = getConfigForSize(puzzle.getWidth(), puzzle.getHeight());
-                
-                System.out.println("\nConfiguration:");
-                System.out.println("  Population Size: " + config.popSize);
-                System.out.println("  Mutation Rate: " + config.mutationRate);
-                System.out.println("  Max Generations: " + config.maxGen);
-                System.out.println("  Crossover: " + config.crossoverName);
-                System.out.println("  Mutation: " + config.mutationName);
                 
                 // Jalankan eksperimen
                 long seed = baseSeed + seedOffset;
-                ExperimentResult result = runExperimentForPuzzle(
-                    puzzle, file.getName(), config, seed
-                );
+                summaries.add(runPuzzle(file.getName(), puzzle, seed, solver, System.out));
                 
-                //Menambahkan hasil eksperimen ke summary
-                summaries.add(new ExperimentSummary(
-                    file.getName(), puzzle.getWidth(), puzzle.getHeight(),
-                    result.solved, result.generations, result.time, result.bestFitness
-                ));
-                
-                seedOffset += 100;
+                if (solver == null) {
+                    seedOffset += 100;
+                }
                 
             } catch (FileNotFoundException e) {
                 System.out.println("Error: File not found - " + file.getName());
@@ -122,6 +127,250 @@ public class MultiSizeExperimentRunner {
         printSummary(summaries);
     }
     
+    /**
+     * Menjalankan eksperimen semua puzzle secara paralel: setiap (puzzle, seed) menjadi satu job
+     * di worker pool berukuran tetap. Output setiap job ditampung di buffer sendiri lalu dicetak
+     * utuh sesuai urutan job, sehingga baris dari job berbeda tidak bercampur.
+     * 
+     * @param examplesFolder Folder yang berisi file puzzle
+     * @param baseSeed Seed dasar untuk random (seed job = baseSeed + 100 * puzzle + run)
+     * @param runs Jumlah seed per puzzle
+     * @param threads Jumlah worker (<= 0 = jumlah prosesor)
+     * @param solverFactory Pembuat solver alternatif per job (null = GA)
+     */
+    public static void runExperimentsInParallel(String examplesFolder, long baseSeed, int runs, int threads,
+                                                Supplier<SolverStrategy> solverFactory) {
+        System.out.println("========================================");
+        System.out.println("   MULTI-SIZE PUZZLE EXPERIMENTS (PARALLEL)");
+        System.out.println("========================================\n");
+        
+        File[] files = listPuzzleFiles(examplesFolder);
+        if (files == null) {
+            System.out.println("No puzzle files found in " + examplesFolder);
+            return;
+        }
+        
+        runs = Math.max(1, runs);
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        System.out.println("Found " + files.length + " puzzle files, " + runs + " run(s) per puzzle, "
+            + threads + " worker thread(s)");
+        
+        // Puzzle dibaca sekali di thread utama; Puzzle immutable sehingga aman dibagi antar job
+        List<String> names = new ArrayList<>();
+        List<Puzzle> puzzles = new ArrayList<>();
+        for (File file : files) {
+            try {
+                puzzles.add(loadPuzzleFromFile(file.getPath()));
+                names.add(file.getName());
+            } catch (Exception e) {
+                System.out.println("Error processing " + file.getName() + ": " + e.getMessage());
+            }
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<ExperimentJob>> futures = new ArrayList<>();
+        for (int p = 0; p < puzzles.size(); p++) {
+            for (int run = 0; run < runs; run++) {
+                // Seed run pertama sama dengan mode sequential
+                ExperimentJob job = new ExperimentJob(names.get(p), puzzles.get(p), baseSeed + 100L * p + run);
+                SolverStrategy solver = (solverFactory != null) ? solverFactory.get() : null;
+                futures.add(executor.submit(() -> job.run(solver)));
+            }
+        }
+        
+        List<ExperimentSummary> summaries = new ArrayList<>();
+        try {
+            // Output dicetak sesuai urutan job, segera setelah job tersebut selesai
+            for (Future<ExperimentJob> future : futures) {
+                ExperimentJob job = future.get();
+                System.out.println("\n" + "=".repeat(60));
+                System.out.println("Processing: " + job.filename + " (seed: " + job.seed + ")");
+                System.out.println("=".repeat(60));
+                System.out.print(job.output);
+                if (job.summary != null) {
+                    summaries.add(job.summary);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error running parallel experiments: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        if (summaries.isEmpty()) {
+            return;
+        }
+        printSummary(summaries);
+        printWallTimeSummary(summaries);
+    }
+    
+    /**
+     * Mengalirkan semua puzzle dalam satu file corpus (banyak puzzle disambung) ke solver.
+     * Puzzle dibaca lazy oleh PuzzleReader sehingga memori tidak bergantung ukuran corpus;
+     * yang dicetak hanya progress dan ringkasan, bukan papan setiap puzzle.
+     * 
+     * @param corpusPath File corpus
+     * @param baseSeed Seed dasar untuk GA (seed puzzle ke-i = baseSeed + i)
+     * @param solver Solver alternatif (null = GA dengan konfigurasi sesuai ukuran)
+     */
+    public static void runCorpus(String corpusPath, long baseSeed, SolverStrategy solver) {
+        System.out.println("========================================");
+        System.out.println("   CORPUS EXPERIMENT");
+        System.out.println("========================================\n");
+        System.out.println("Corpus: " + corpusPath);
+        System.out.println("Solver: " + (solver != null ? solver.getName() : "Genetic Algorithm"));
+        
+        int count = 0;
+        int solved = 0;
+        int unsolved = 0;
+        long[] times = new long[1024];
+        long startTime = System.currentTimeMillis();
+        
+        try (PuzzleReader reader = new PuzzleReader(new File(corpusPath))) {
+            Puzzle puzzle;
+            while ((puzzle = reader.readPuzzle()) != null) {
+                long puzzleStart = System.nanoTime();
+                boolean ok;
+                if (solver != null) {
+                    Chromosome solution = solver.solve(puzzle);
+                    ok = solution != null && new FitnessFunction(puzzle).calculateFitness(solution) == 0.0;
+                } else {
+                    ExperimentConfig config = getConfigForSize(puzzle.getWidth(), puzzle.getHeight());
+                    ImprovedGeneticAlgorithm ga = new ImprovedGeneticAlgorithm(
+                        puzzle, config.popSize, config.crossoverRate, config.mutationRate,
+                        config.maxGen, config.elitism, config.selection, config.crossover,
+                        config.mutation, baseSeed + count
+                    );
+                    configure(ga, puzzle);
+                    ga.setVerbose(false);
+                    ga.run();
+                    ok = ga.isSolutionFound();
+                }
+                
+                if (count == times.length) {
+                    times = Arrays.copyOf(times, count * 2);
+                }
+                times[count++] = (System.nanoTime() - puzzleStart) / 1000;  // mikrodetik
+                if (ok) solved++; else unsolved++;
+                
+                if (count % 1000 == 0) {
+                    System.out.println("  " + count + " puzzles processed...");
+                }
+            }
+        } catch (FileNotFoundException e) {
+            System.out.println("Error: File not found - " + corpusPath);
+            return;
+        } catch (IOException e) {
+            System.out.println("Error reading corpus after " + count + " puzzles: " + e.getMessage());
+            if (count == 0) {
+                return;
+            }
+        }
+        
+        long duration = System.currentTimeMillis() - startTime;
+        if (count == 0) {
+            System.out.println("No puzzles found in " + corpusPath);
+            return;
+        }
+        long[] sorted = Arrays.copyOf(times, count);
+        Arrays.sort(sorted);
+        
+        System.out.println("\n--- Corpus Results ---");
+        System.out.println("  Puzzles: " + count);
+        System.out.println("  Solved: " + solved + " (" + String.format("%.1f", solved * 100.0 / count) + "%)");
+        System.out.println("  Unsolved: " + unsolved);
+        System.out.println("  Time: " + duration + " ms (~" + (duration / 1000.0) + " seconds)");
+        System.out.printf("  Per puzzle: mean %.3f ms, median %.3f ms, p95 %.3f ms%n",
+            Arrays.stream(sorted).sum() / 1000.0 / count,
+            median(sorted) / 1000.0,
+            percentile(sorted, 95) / 1000.0);
+        System.out.printf("  Throughput: %.1f puzzles/s%n", count * 1000.0 / Math.max(1, duration));
+    }
+    
+    //Semua file puzzle_*.txt di folder, urut dari ukuran terkecil (null jika tidak ada)
+    private static File[] listPuzzleFiles(String examplesFolder) {
+        File folder = new File(examplesFolder);
+        File[] files = folder.listFiles((dir, name) -> name.startsWith("puzzle_") && name.endsWith(".txt"));
+        
+        if (files == null || files.length == 0) {
+            return null;
+        }
+        
+        // Ukuran setiap file dibaca sekali (hanya header), bukan di setiap perbandingan
+        Map<File, int[]> dimensions = new HashMap<>();
+        for (File file : files) {
+            try {
+                dimensions.put(file, PuzzleReader.readDimensions(file));
+            } catch (IOException e) {
+                // File yang gagal dibaca diurutkan berdasarkan nama
+            }
+        }
+        
+        // Urutkan file berdasarkan ukuran puzzle (dari terkecil ke terbesar)
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File f1, File f2) {
+                int[] d1 = dimensions.get(f1);
+                int[] d2 = dimensions.get(f2);
+                
+                // Jika error membaca file, urutkan berdasarkan nama
+                if (d1 == null || d2 == null) {
+                    return f1.getName().compareTo(f2.getName());
+                }
+                
+                int size1 = d1[0] * d1[1];
+                int size2 = d2[0] * d2[1];
+                
+                // Urutkan berdasarkan ukuran (terkecil dulu)
+                if (size1 != size2) {
+                    return Integer.compare(size1, size2);
+                }
+                
+                // Jika ukuran sama, urutkan berdasarkan width
+                if (d1[0] != d2[0]) {
+                    return Integer.compare(d1[0], d2[0]);
+                }
+                
+                // Jika width sama, urutkan berdasarkan nama file
+                return f1.getName().compareTo(f2.getName());
+            }
+        });
+        return files;
+    }
+    
+    //Satu eksperimen (GA atau solver) untuk satu puzzle, semua output ditulis ke out
+    private static ExperimentSummary runPuzzle(String filename, Puzzle puzzle, long seed,
+                                               SolverStrategy solver, PrintStream out) {
+        out.println("\nPuzzle " + puzzle.getWidth() + "x" + puzzle.getHeight() + ":");
+        puzzle.print(out);
+        
+        ExperimentResult result;
+        if (solver != null) {
+            result = runSolverForPuzzle(puzzle, solver, out);
+        } else {
+            // Tentukan parameter berdasarkan ukuran puzzle
+            ExperimentConfig config = getConfigForSize(puzzle.getWidth(), puzzle.getHeight());
+            
+            out.println("\nConfiguration:");
+            out.println("  Population Size: " + config.popSize);
+            out.println("  Mutation Rate: " + config.mutationRate);
+            out.println("  Max Generations: " + config.maxGen);
+            out.println("  Crossover: " + config.crossoverName);
+            out.println("  Mutation: " + config.mutationName);
+            
+            result = runExperimentForPuzzle(puzzle, filename, config, seed, out);
+        }
+        
+        //Menambahkan hasil eksperimen ke summary
+        return new ExperimentSummary(
+            filename, puzzle.getWidth(), puzzle.getHeight(),
+            result.solved, result.generations, result.time, result.bestFitness
+        );
+    }
+    
     //return experiment configuration based on puzzle size
     private static ExperimentConfig getConfigForSize(int width, int height) {
         int size = width * height;
@@ -130,7 +379,7 @@ public class MultiSizeExperimentRunner {
         if (size <= 9) { // 3x3
             return new ExperimentConfig(
                 50, 0.85, 0.02, 200, 2,
-                new RouletteWheelSelection(),
+                createSelection(),
                 new SinglePointCrossover(),
                 new AdaptiveMutation(0.03, 0.005, 200),
                 "Single Point", "Adaptive"
@@ -138,7 +387,7 @@ public class MultiSizeExperimentRunner {
         } else if (size <= 16) { // 4x4
             return new ExperimentConfig(
                     80, 0.85, 0.025, 400, 3,
-                new RouletteWheelSelection(),
+                createSelection(),
                 new TwoPointCrossover(),
                 new AdaptiveMutation(0.04, 0.005, 400),
                 "Two Point", "Adaptive"
@@ -146,7 +395,7 @@ public class MultiSizeExperimentRunner {
         } else if (size <= 25) { // 5x5
             return new ExperimentConfig(
                 140, 0.85, 0.035, 1500, 5,
-                new RouletteWheelSelection(),
+                createSelection(),
                 new FitnessGuidedUniformCrossover(0.25),
                 new AdaptiveMutation(0.06, 0.005, 1500),
                 "Fitness-Guided", "Adaptive"
@@ -154,7 +403,7 @@ public class MultiSizeExperimentRunner {
         } else if (size <= 36) { // 6x6
             return new ExperimentConfig(
                 600, 0.86, 0.12, 500, 6,
-                new RouletteWheelSelection(),
+                createSelection(),
                 new FitnessGuidedUniformCrossover(0.30),
                 new AdaptiveMutation(0.12, 0.01, 500),
                 "Fitness-Guided", "Adaptive"
@@ -162,7 +411,7 @@ public class MultiSizeExperimentRunner {
         } else if (size <= 49) { // 7x7
             return new ExperimentConfig(
                 700, 0.86, 0.125, 600, 8,
-                new RouletteWheelSelection(),
+                createSelection(),
                 new FitnessGuidedUniformCrossover(0.32),
                 new AdaptiveMutation(0.13, 0.01, 600),
                 "Fitness-Guided", "Adaptive"
@@ -170,27 +419,128 @@ public class MultiSizeExperimentRunner {
         } else if (size <= 64) { // 8x8
             return new ExperimentConfig(
                 800, 0.87, 0.13, 700, 10,
-                new RouletteWheelSelection(),
+                createSelection(),
                 new FitnessGuidedUniformCrossover(0.35),
                 new AdaptiveMutation(0.14, 0.01, 700),
                 "Fitness-Guided", "Adaptive"
             );
         } else { // 10x10 atau lebih besar
+            // Papan besar: geometric skip sampling, random dipanggil per flip bukan per gen
+            AdaptiveMutation mutation = new AdaptiveMutation(0.16, 0.01, 800);
+            mutation.setGeometricSkip(true);
             return new ExperimentConfig(
                 1000, 0.87, 0.14, 800, 12,
-                new RouletteWheelSelection(),
+                createSelection(),
                 new FitnessGuidedUniformCrossover(0.35),
-                new AdaptiveMutation(0.16, 0.01, 800),
+                mutation,
                 "Fitness-Guided", "Adaptive"
             );
         }
     }
     
+    //Strategi seleksi sesuai opsi --selection (instance baru per GA, strategi menyimpan state)
+    private static SelectionStrategy createSelection() {
+        return createSelection(selectionMode);
+    }
+    
+    //Strategi seleksi dari nama roulette, tournament[:k] atau truncation[:fraksi]
+    static SelectionStrategy createSelection(String mode) {
+        String[] parts = mode.split(":", 2);
+        switch (parts[0]) {
+            case "tournament":
+                return (parts.length > 1) ? new TournamentSelection(Integer.parseInt(parts[1])) : new TournamentSelection();
+            case "truncation":
+                return (parts.length > 1) ? new TruncationSelection(Double.parseDouble(parts[1])) : new TruncationSelection();
+            case "roulette":
+                return new RouletteWheelSelection();
+            default:
+                throw new IllegalArgumentException("Unknown selection: " + mode);
+        }
+    }
+    
+    //Nama strategi seleksi untuk laporan
+    private static String selectionName(SelectionStrategy selection) {
+        if (selection instanceof TournamentSelection) {
+            return "Tournament (k=" + ((TournamentSelection) selection).getTournamentSize() + ")";
+        }
+        if (selection instanceof TruncationSelection) {
+            return "Truncation (" + ((TruncationSelection) selection).getFraction() + ")";
+        }
+        return "Roulette Wheel";
+    }
+    
+    //Opsi engine yang sama untuk semua GA yang dibuat runner
+    private static void configure(ImprovedGeneticAlgorithm ga, Puzzle puzzle) {
+        ga.setPopulationArena(populationArena);
+        ga.setPopulationStore(populationStore);
+        ga.setForcedCellPinning(pinForcedCells);
+        ga.setFitnessCacheSize(fitnessCacheSize);
+        ga.setBitSlicedEvaluation(bitSliced);
+        ga.setSteadyState(steadyStateOffspring);
+        if (memetic) {
+            // Top 5 offspring, budget 40 evaluasi delta per sel per generasi
+            ga.setLocalSearch(new LocalSearch(5, 40 * puzzle.getWidth() * puzzle.getHeight()));
+        }
+    }
+    
+    //Mencetak counter cache fitness GA (jika cache aktif)
+    private static void printCacheStatistics(ImprovedGeneticAlgorithm ga, PrintStream out) {
+        FitnessCache cache = ga.getFitnessCache();
+        if (cache == null) {
+            return;
+        }
+        out.println("\n--- Fitness Cache ---");
+        out.println("  Lookups: " + cache.getLookups() + ", Hits: " + cache.getHits()
+            + " (" + String.format("%.1f", cache.getHitRate() * 100) + "% evaluations saved)");
+        out.println("  Entries: " + cache.getSize() + "/" + cache.getCapacity()
+            + ", Evictions: " + cache.getEvictions() + ", Hash collisions: " + cache.getCollisions());
+    }
+    
+    //Solver exact dengan batas node dari command line
+    private static SolverStrategy createExactSolver() {
+        BacktrackingSolver solver = new BacktrackingSolver();
+        solver.setNodeLimit(nodeLimit);
+        return solver;
+    }
+    
+    //Jalanin solver alternatif (tanpa generasi; bestFitness NaN jika puzzle tidak punya solusi)
+    private static ExperimentResult runSolverForPuzzle(Puzzle puzzle, SolverStrategy solver, PrintStream out) {
+        out.println("\n--- Running Solver: " + solver.getName() + " ---");
+        long startTime = System.currentTimeMillis();
+        
+        Chromosome solution = solver.solve(puzzle);
+        
+        long duration = System.currentTimeMillis() - startTime;
+        double fitness = (solution != null) ? new FitnessFunction(puzzle).calculateFitness(solution) : Double.NaN;
+        boolean solved = (solution != null && fitness == 0.0);
+        
+        out.println("\n--- Results ---");
+        out.println("  Solved: " + (solved ? "YES" : "NO"));
+        if (solver instanceof BacktrackingSolver) {
+            BacktrackingSolver backtracking = (BacktrackingSolver) solver;
+            out.println("  Search Nodes: " + backtracking.getNodes());
+            out.println("  Backtracks: " + backtracking.getBacktracks());
+            if (backtracking.isLimitReached()) {
+                out.println("  Node limit reached, search incomplete");
+            } else if (solution == null) {
+                out.println("  Puzzle has no solution (search exhausted)");
+            }
+        }
+        out.println("  Time: " + duration + " ms (~" + (duration / 1000.0) + " seconds)");
+        
+        if (solution != null) {
+            out.println("\nSolution:");
+            solution.print(out);
+        }
+        
+        return new ExperimentResult(solved, 0, duration, fitness);
+    }
+    
     //Jalanin experiment
     private static ExperimentResult runExperimentForPuzzle(
-            Puzzle puzzle, String filename, ExperimentConfig config, long seed) {
+            Puzzle puzzle, String filename, ExperimentConfig config, long seed, PrintStream out) {
         
-        System.out.println("\n--- Running Experiment (seed: " + seed + ") ---");
+        out.println("\n--- Running Experiment (seed: " + seed + ") ---");
         long startTime = System.currentTimeMillis();
         
         ImprovedGeneticAlgorithm ga = new ImprovedGeneticAlgorithm(
@@ -198,25 +548,35 @@ public class MultiSizeExperimentRunner {
             config.maxGen, config.elitism, config.selection, config.crossover,
             config.mutation, seed
         );
+        configure(ga, puzzle);
+        ga.setOutput(out);
+        PhaseTimingListener timing = metrics ? new PhaseTimingListener() : null;
+        if (timing != null) {
+            ga.addGenerationListener(timing);
+        }
         
         Chromosome solution = ga.run();
         
         long endTime = System.currentTimeMillis();
         long duration = endTime - startTime;
         
-        System.out.println("\n--- Results ---");
-        System.out.println("  Solved: " + (ga.isSolutionFound() ? "YES" : "NO"));
-        System.out.println("  Generations: " + ga.getCurrentGeneration());
-        System.out.println("  Best Fitness: " + String.format("%.2f", ga.getBestFitness()));
-        System.out.println("  Time: " + duration + " ms (~" + (duration / 1000.0) + " seconds)");
-        System.out.println("  Final Diversity: " + String.format("%.3f", ga.getCurrentDiversity()));
+        out.println("\n--- Results ---");
+        out.println("  Solved: " + (ga.isSolutionFound() ? "YES" : "NO"));
+        out.println("  Generations: " + ga.getCurrentGeneration());
+        out.println("  Best Fitness: " + String.format("%.2f", ga.getBestFitness()));
+        out.println("  Time: " + duration + " ms (~" + (duration / 1000.0) + " seconds)");
+        out.println("  Final Diversity: " + String.format("%.3f", ga.getCurrentDiversity()));
         
         if (ga.isSolutionFound()) {
-            System.out.println("\nSolution:");
-            solution.print();
+            out.println("\nSolution:");
+            solution.print(out);
         } else {
-            System.out.println("\nBest solution found:");
-            solution.print();
+            out.println("\nBest solution found:");
+            solution.print(out);
+        }
+        printCacheStatistics(ga, out);
+        if (timing != null) {
+            timing.printSummary(out);
         }
         
         return new ExperimentResult(
@@ -225,23 +585,10 @@ public class MultiSizeExperimentRunner {
     }
     
     /**
-     * Membaca puzzle dari file
+     * Membaca puzzle dari file (puzzle pertama jika file berisi banyak puzzle)
      */
-    public static Puzzle loadPuzzleFromFile(String filename) throws FileNotFoundException {
-        Scanner scanner = new Scanner(new File(filename));
-        
-        int width = scanner.nextInt();
-        int height = scanner.nextInt();
-        int[][] board = new int[height][width];
-        
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                board[i][j] = scanner.nextInt();
-            }
-        }
-        
-        scanner.close();
-        return new Puzzle(width, height, board);
+    public static Puzzle loadPuzzleFromFile(String filename) throws IOException {
+        return PuzzleReader.readFirst(new File(filename));
     }
     
     /**
@@ -280,6 +627,58 @@ public class MultiSizeExperimentRunner {
             totalGenerations / summaries.size());
     }
     
+    /**
+     * Mencetak statistik wall time per puzzle (mean, median, p95) untuk eksperimen multi-seed
+     */
+    private static void printWallTimeSummary(List<ExperimentSummary> summaries) {
+        System.out.println("\n" + "=".repeat(45));
+        System.out.println("   WALL TIME PER PUZZLE");
+        System.out.println("=".repeat(45));
+        System.out.println();
+        System.out.printf("%-25s %6s %8s %10s %10s %10s%n",
+            "Puzzle", "Runs", "Solved", "Mean (s)", "Median (s)", "P95 (s)");
+        System.out.println("-".repeat(74));
+        
+        // summaries sudah terkelompok per puzzle (urutan job)
+        int start = 0;
+        while (start < summaries.size()) {
+            String filename = summaries.get(start).filename;
+            int end = start;
+            while (end < summaries.size() && summaries.get(end).filename.equals(filename)) {
+                end++;
+            }
+            
+            long[] times = new long[end - start];
+            long total = 0;
+            int solved = 0;
+            for (int i = start; i < end; i++) {
+                times[i - start] = summaries.get(i).time;
+                total += summaries.get(i).time;
+                if (summaries.get(i).solved) solved++;
+            }
+            Arrays.sort(times);
+            
+            System.out.printf("%-25s %6d %8d %10.3f %10.3f %10.3f%n",
+                filename, times.length, solved,
+                total / 1000.0 / times.length,
+                median(times) / 1000.0,
+                percentile(times, 95) / 1000.0);
+            start = end;
+        }
+    }
+    
+    //Median array yang sudah terurut
+    private static double median(long[] sorted) {
+        int n = sorted.length;
+        return (n % 2 == 1) ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+    }
+    
+    //Percentile nearest-rank dari array yang sudah terurut
+    private static long percentile(long[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+    
     /**
      * Konfigurasi eksperimen
      */
@@ -352,6 +751,38 @@ public class MultiSizeExperimentRunner {
         }
     }
     
+    /**
+     * Satu job eksperimen paralel: output ditulis ke buffer milik job sendiri
+     */
+    private static class ExperimentJob {
+        String filename;
+        Puzzle puzzle;
+        long seed;
+        String output;
+        ExperimentSummary summary;
+        
+        ExperimentJob(String filename, Puzzle puzzle, long seed) {
+            this.filename = filename;
+            this.puzzle = puzzle;
+            this.seed = seed;
+        }
+        
+        //Dipanggil di worker thread
+        ExperimentJob run(SolverStrategy solver) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            PrintStream out = new PrintStream(buffer, true);
+            try {
+                summary = runPuzzle(filename, puzzle, seed, solver, out);
+            } catch (Exception e) {
+                out.println("Error processing " + filename + ": " + e.getMessage());
+                e.printStackTrace(out);
+            }
+            out.flush();
+            output = buffer.toString();
+            return this;
+        }
+    }
+    
     /**
      * Menjalankan eksperimen untuk satu file puzzle saja
      * 
@@ -359,6 +790,29 @@ public class MultiSizeExperimentRunner {
      * @param seed Seed untuk random
      */
     public static void runExperimentForSingleFile(String filePath, long seed) {
+        runExperimentForSingleFile(filePath, seed, 1);
+    }
+    
+    /**
+     * Menjalankan eksperimen untuk satu file puzzle dengan island model jika islands > 1
+     * 
+     * @param filePath Path lengkap ke file puzzle (bisa relatif atau absolut)
+     * @param seed Seed untuk random
+     * @param islands Jumlah island (1 = GA tunggal)
+     */
+    public static void runExperimentForSingleFile(String filePath, long seed, int islands) {
+        runExperimentForSingleFile(filePath, seed, islands, null);
+    }
+    
+    /**
+     * Menjalankan eksperimen untuk satu file puzzle dengan GA, island model, atau solver alternatif
+     * 
+     * @param filePath Path lengkap ke file puzzle (bisa relatif atau absolut)
+     * @param seed Seed untuk random
+     * @param islands Jumlah island (1 = GA tunggal)
+     * @param solver Solver alternatif (null = GA)
+     */
+    public static void runExperimentForSingleFile(String filePath, long seed, int islands, SolverStrategy solver) {
         System.out.println("========================================");
         System.out.println("   SINGLE PUZZLE EXPERIMENT");
         System.out.println("========================================\n");
@@ -390,6 +844,11 @@ public class MultiSizeExperimentRunner {
             System.out.println("\nPuzzle " + puzzle.getWidth() + "x" + puzzle.getHeight() + ":");
             puzzle.print();
             
+            if (solver != null) {
+                runSolverForPuzzle(puzzle, solver, System.out);
+                return;
+            }
+            
             // Tentukan parameter berdasarkan ukuran puzzle
             ExperimentConfig config = getConfigForSize(puzzle.getWidth(), puzzle.getHeight());
             
@@ -399,10 +858,19 @@ public class MultiSizeExperimentRunner {
             System.out.println("  Mutation Rate: " + config.mutationRate);
             System.out.println("  Max Generations: " + config.maxGen);
             System.out.println("  Elitism: " + config.elitism);
-            System.out.println("  Selection: Roulette Wheel");
+            System.out.println("  Selection: " + selectionName(config.selection));
             System.out.println("  Crossover: " + config.crossoverName);
             System.out.println("  Mutation: " + config.mutationName);
             
+            if (islands > 1) {
+                runIslandExperiment(puzzle, islands, seed);
+                return;
+            }
+            if (offHeapSize > 0) {
+                runOffHeapExperiment(puzzle, config, seed);
+                return;
+            }
+            
             // Jalankan eksperimen
             System.out.println("\n--- Running Experiment (seed: " + seed + ") ---");
             long startTime = System.currentTimeMillis();
@@ -412,6 +880,11 @@ public class MultiSizeExperimentRunner {
                 config.maxGen, config.elitism, config.selection, config.crossover,
                 config.mutation, seed
             );
+            configure(ga, puzzle);
+            PhaseTimingListener timing = metrics ? new PhaseTimingListener() : null;
+            if (timing != null) {
+                ga.addGenerationListener(timing);
+            }
             
             Chromosome solution = ga.run();
             
@@ -432,6 +905,10 @@ public class MultiSizeExperimentRunner {
                 System.out.println("\nBest solution found:");
                 solution.print();
             }
+            printCacheStatistics(ga, System.out);
+            if (timing != null) {
+                timing.printSummary(System.out);
+            }
             
         } catch (FileNotFoundException e) {
             System.out.println("Error: File not found - " + file.getPath());
@@ -445,13 +922,104 @@ public class MultiSizeExperimentRunner {
         System.out.println("========================================");
     }
     
+    //Menjalankan island model: setiap island memakai konfigurasi sesuai ukuran dengan strategi baru
+    private static void runIslandExperiment(Puzzle puzzle, int islands, long seed) {
+        System.out.println("\n--- Running Island Model (" + islands + " islands, ring, seed: " + seed + ") ---");
+        long startTime = System.currentTimeMillis();
+        
+        IslandModelGA model = new IslandModelGA(islands, (island, islandSeed) -> {
+            ExperimentConfig config = getConfigForSize(puzzle.getWidth(), puzzle.getHeight());
+            ImprovedGeneticAlgorithm ga = new ImprovedGeneticAlgorithm(
+                puzzle, config.popSize, config.crossoverRate, config.mutationRate,
+                config.maxGen, config.elitism, config.selection, config.crossover,
+                config.mutation, islandSeed
+            );
+            configure(ga, puzzle);
+            ga.setVerbose(false);
+            return ga;
+        }, IslandModelGA.Topology.RING, 10, 2, seed);
+        
+        Chromosome solution = model.run();
+        
+        long duration = System.currentTimeMillis() - startTime;
+        
+        System.out.println("\n--- Results ---");
+        System.out.println("  Solved: " + (model.isSolutionFound() ? "YES" : "NO"));
+        System.out.println("  Generations: " + model.getMaxGeneration());
+        System.out.println("  Best Fitness: " + String.format("%.2f", model.getBestFitness()));
+        System.out.println("  Best Island: " + model.getBestIsland());
+        System.out.println("  Migrations: " + model.getMigrations());
+        System.out.println("  Time: " + duration + " ms (~" + (duration / 1000.0) + " seconds)");
+        
+        System.out.println(model.isSolutionFound() ? "\nSolution:" : "\nBest solution found:");
+        solution.print();
+    }
+    
+    //Menjalankan GA steady-state dengan populasi off-heap: satu generasi = offHeapSize offspring
+    private static void runOffHeapExperiment(Puzzle puzzle, ExperimentConfig config, long seed) throws IOException {
+        System.out.println("\n--- Running Off-Heap Steady-State GA (" + offHeapSize + " individuals"
+            + (offHeapFile != null ? ", mapped: " + offHeapFile : "") + ", seed: " + seed + ") ---");
+        long startTime = System.currentTimeMillis();
+        
+        Random random = new Random(seed);
+        try (OffHeapPopulation population = (offHeapFile != null)
+                ? OffHeapPopulation.map(Paths.get(offHeapFile), offHeapSize, puzzle.getWidth(), puzzle.getHeight())
+                : OffHeapPopulation.allocate(offHeapSize, puzzle.getWidth(), puzzle.getHeight())) {
+            // Record dari file dilanjutkan; hanya record baru (file baru atau size diperbesar) diisi acak
+            int restored = population.getRestoredCount();
+            if (restored > 0) {
+                System.out.println("Resumed " + restored + " of " + offHeapSize + " individuals from " + offHeapFile);
+            }
+            population.randomize(random, restored, population.getSize());
+            
+            OffHeapGeneticAlgorithm ga = new OffHeapGeneticAlgorithm(puzzle, population,
+                config.crossover, config.mutation, config.crossoverRate, config.mutationRate, 4, random);
+            ParallelEvaluator evaluator = new ParallelEvaluator(Runtime.getRuntime().availableProcessors());
+            try {
+                ga.setParallelEvaluator(evaluator);
+                ga.initialize();
+            } finally {
+                evaluator.shutdown();
+            }
+            System.out.println("Generation 0 - Best: " + String.format("%.2f", ga.getBestFitness())
+                + " (" + (System.currentTimeMillis() - startTime) + " ms)");
+            
+            int generation = 0;
+            while (generation < config.maxGen && !ga.isSolutionFound()) {
+                ga.step((offHeapSize + 1) / 2);
+                generation++;
+                if (generation % 10 == 0 || ga.isSolutionFound()) {
+                    System.out.println("Gen " + generation + " - Best: " + String.format("%.2f", ga.getBestFitness()));
+                }
+            }
+            
+            long duration = System.currentTimeMillis() - startTime;
+            System.out.println("\n--- Results ---");
+            System.out.println("  Solved: " + (ga.isSolutionFound() ? "YES" : "NO"));
+            System.out.println("  Generations: " + generation);
+            System.out.println("  Best Fitness: " + String.format("%.2f", ga.getBestFitness()));
+            System.out.println("  Evaluations: " + ga.getEvaluations() + ", replacements: " + ga.getReplacements());
+            System.out.println("  Off-heap bytes: " + (long) population.getSize() * population.getRecordBytes());
+            System.out.println("  Time: " + duration + " ms (~" + (duration / 1000.0) + " seconds)");
+            
+            System.out.println(ga.isSolutionFound() ? "\nSolution:" : "\nBest solution found:");
+            ga.getBestChromosome().print();
+        }
+    }
+    
     /**
      * Method utama
      */
     public static void main(String[] args) {
         String examplesFolder = "examples";
         String singleFile = null;
+        String corpusFile = null;
         long baseSeed = 50000L;
+        int islands = 1;
+        Supplier<SolverStrategy> solverFactory = null;
+        boolean parallel = false;
+        int threads = 0;
+        int runs = 1;
         
         // Parse arguments
         for (int i = 0; i < args.length; i++) {
@@ -459,6 +1027,10 @@ public class MultiSizeExperimentRunner {
                 if (i + 1 < args.length) {
                     singleFile = args[++i];
                 }
+            } else if (args[i].equals("--corpus")) {
+                if (i + 1 < args.length) {
+                    corpusFile = args[++i];
+                }
             } else if (args[i].equals("--folder") || args[i].equals("-f")) {
                 if (i + 1 < args.length) {
                     examplesFolder = args[++i];
@@ -467,6 +1039,73 @@ public class MultiSizeExperimentRunner {
                 if (i + 1 < args.length) {
                     baseSeed = Long.parseLong(args[++i]);
                 }
+            } else if (args[i].equals("--solver")) {
+                if (i + 1 < args.length) {
+                    String name = args[++i];
+                    if (name.equals("exact")) {
+                        solverFactory = MultiSizeExperimentRunner::createExactSolver;
+                    } else if (!name.equals("ga")) {
+                        System.out.println("Unknown solver: " + name + " (use ga or exact)");
+                        return;
+                    }
+                }
+            } else if (args[i].equals("--node-limit")) {
+                if (i + 1 < args.length) {
+                    nodeLimit = Long.parseLong(args[++i]);
+                }
+            } else if (args[i].equals("--cache")) {
+                if (i + 1 < args.length) {
+                    fitnessCacheSize = Integer.parseInt(args[++i]);
+                }
+            } else if (args[i].equals("--no-arena")) {
+                populationArena = false;
+            } else if (args[i].equals("--store")) {
+                populationStore = true;
+            } else if (args[i].equals("--offheap")) {
+                if (i + 1 < args.length) {
+                    offHeapSize = Integer.parseInt(args[++i]);
+                }
+            } else if (args[i].equals("--map")) {
+                if (i + 1 < args.length) {
+                    offHeapFile = args[++i];
+                }
+            } else if (args[i].equals("--steady-state")) {
+                if (i + 1 < args.length) {
+                    steadyStateOffspring = Integer.parseInt(args[++i]);
+                }
+            } else if (args[i].equals("--selection")) {
+                if (i + 1 < args.length) {
+                    selectionMode = args[++i];
+                    try {
+                        createSelection();
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("Unknown selection: " + selectionMode
+                            + " (use roulette, tournament[:k] or truncation[:fraction])");
+                        return;
+                    }
+                }
+            } else if (args[i].equals("--bitsliced")) {
+                bitSliced = true;
+            } else if (args[i].equals("--metrics")) {
+                metrics = true;
+            } else if (args[i].equals("--memetic")) {
+                memetic = true;
+            } else if (args[i].equals("--pin")) {
+                pinForcedCells = true;
+            } else if (args[i].equals("--parallel")) {
+                // --parallel [threads], tanpa angka = jumlah prosesor
+                parallel = true;
+                if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+                    threads = Integer.parseInt(args[++i]);
+                }
+            } else if (args[i].equals("--runs")) {
+                if (i + 1 < args.length) {
+                    runs = Integer.parseInt(args[++i]);
+                }
+            } else if (args[i].equals("--islands")) {
+                if (i + 1 < args.length) {
+                    islands = Integer.parseInt(args[++i]);
+                }
             } else if (!args[i].startsWith("-")) {
                 // Backward compatibility: first arg = folder, second = seed
                 if (i == 0) examplesFolder = args[i];
@@ -474,11 +1113,19 @@ public class MultiSizeExperimentRunner {
             }
         }
         
-        // Jika ada parameter --file, jalankan hanya file tersebut
-        if (singleFile != null) {
-            runExperimentForSingleFile(singleFile, baseSeed);
+        SolverStrategy solver = (solverFactory != null) ? solverFactory.get() : null;
+        
+        // Jika ada parameter --corpus, alirkan semua puzzle di file tersebut
+        if (corpusFile != null) {
+            runCorpus(corpusFile, baseSeed, solver);
+        } else if (singleFile != null) {
+            runExperimentForSingleFile(singleFile, baseSeed, islands, solver);
         } else {
-            runExperimentsForAllPuzzles(examplesFolder, baseSeed);
+            if (parallel) {
+                runExperimentsInParallel(examplesFolder, baseSeed, runs, threads, solverFactory);
+            } else {
+                runExperimentsForAllPuzzles(examplesFolder, baseSeed, solver);
+            }
             System.out.println("\n========================================");
             System.out.println("   ALL EXPERIMENTS COMPLETED");
             System.out.println("========================================");
@@ -0,0 +1,103 @@
+import java.util.Arrays;
+
+/**
+ * Jumlah sel hitam di area 3x3 untuk SEMUA sel papan sekaligus (box sum).
+ *
+ * Dihitung dalam satu sweep separable: jumlah horizontal 3 sel per baris (sliding
+ * window langsung dari word genom), lalu jumlah vertikal 3 baris ke buffer counts.
+ * Untuk papan besar dengan hint padat ini lebih murah daripada countBlackNeighbors
+ * (loop 3x3 dengan bounds check) per hint.
+ *
+ * Buffer dipakai ulang antar kromosom. Satu instance tidak thread-safe; pemakai
+ * paralel menyimpan satu instance per thread.
+ */
+public class NeighborCountGrid {
+    //Papan minimal (sel) dan kepadatan hint minimal agar sweep seluruh papan dipakai
+    private static final int MIN_CELLS = 50 * 50;
+    private static final double MIN_HINT_DENSITY = 0.25;
+
+    private final int width;
+    private final int height;
+
+    //counts[row * width + col] = jumlah sel hitam di area 3x3 sekitar (row, col)
+    private final int[] counts;
+
+    //Jumlah horizontal baris sebelumnya (sebelum ditimpa), untuk sweep vertikal in-place
+    private final int[] previous;
+
+    //Constructor
+    public NeighborCountGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.counts = new int[width * height];
+        this.previous = new int[width];
+    }
+
+    //Apakah sweep seluruh papan lebih murah daripada hitung per hint untuk puzzle ini
+    public static boolean isWorthwhile(int width, int height, int hintCount) {
+        int cells = width * height;
+        return cells >= MIN_CELLS && hintCount >= cells * MIN_HINT_DENSITY;
+    }
+
+    //Menghitung ulang semua jumlah 3x3 dari gen kromosom
+    public void compute(Chromosome chromosome) {
+        int wordsPerRow = chromosome.getWordsPerRow();
+
+        // Sweep horizontal: counts[row][col] = sel (col-1) + col + (col+1) pada baris yang sama
+        for (int row = 0; row < height; row++) {
+            int base = row * width;
+            int wordBase = row * wordsPerRow;
+            long word = chromosome.getWord(wordBase);
+            int left = 0;
+            int center = (int) (word & 1L);
+            for (int col = 0; col < width; col++) {
+                int next = col + 1;
+                int right = 0;
+                if (next < width) {
+                    if ((next & 63) == 0) {
+                        word = chromosome.getWord(wordBase + (next >>> 6));
+                    }
+                    right = (int) ((word >>> next) & 1L);
+                }
+                counts[base + col] = left + center + right;
+                left = center;
+                center = right;
+            }
+        }
+
+        // Sweep vertikal in-place: counts[row] = h[row-1] + h[row] + h[row+1]
+        Arrays.fill(previous, 0);
+        for (int row = 0; row < height; row++) {
+            int base = row * width;
+            int below = base + width;
+            boolean hasBelow = row + 1 < height;
+            for (int col = 0; col < width; col++) {
+                int horizontal = counts[base + col];
+                counts[base + col] = previous[col] + horizontal + (hasBelow ? counts[below + col] : 0);
+                previous[col] = horizontal;
+            }
+        }
+    }
+
+    //Jumlah sel hitam di area 3x3 sekitar (row, col), sama dengan Chromosome.countBlackNeighbors
+    public int get(int row, int col) {
+        return counts[row * width + col];
+    }
+
+    //Mengubah sel kromosom dan memperbarui jumlah 3x3 yang terpengaruh (maksimal 9 entry)
+    public void setCell(Chromosome chromosome, int row, int col, boolean value) {
+        if (chromosome.getCell(row, col) == value) {
+            return;
+        }
+        chromosome.setCell(row, col, value);
+        int delta = value ? 1 : -1;
+        for (int r = Math.max(0, row - 1); r <= Math.min(height - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(width - 1, col + 1); c++) {
+                counts[r * width + c] += delta;
+            }
+        }
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
@@ -0,0 +1,237 @@
+import java.util.Random;
+
+/**
+ * GA steady-state di atas OffHeapPopulation, untuk populasi yang terlalu besar untuk
+ * satu objek Chromosome per individu (misalnya 10^6 individu).
+ *
+ * Setiap step:
+ * 1. Dua parent dipilih dengan tournament selection berdasarkan index (hanya membaca
+ *    fitness record, tanpa memuat genom)
+ * 2. Parent dimuat ke kromosom staging, lalu CrossoverStrategy dan MutationStrategy yang
+ *    ada dipakai tanpa perubahan (crossoverInto ke kromosom staging offspring)
+ * 3. Offspring dievaluasi, lalu menggantikan individu terburuk dari tournament terbalik
+ *    jika tidak lebih buruk darinya
+ *
+ * Heap Java hanya berisi beberapa kromosom staging, berapapun ukuran populasinya.
+ *
+ * Jika mutasi adalah AdaptiveMutation, satu snapshot PopulationStatistics (generasi = jumlah
+ * pemanggilan step, best, mean, std dev fitness, diversity) diberikan sekali di awal setiap step.
+ * Diversity dijaga incremental dengan LocusDiversity (hanya lokus yang berubah saat replacement).
+ */
+public class OffHeapGeneticAlgorithm {
+    private final OffHeapPopulation population;
+    private final FitnessFunction fitnessFunction;
+    private final CrossoverStrategy crossoverStrategy;
+    private final MutationStrategy mutationStrategy;
+    private final double crossoverRate;
+    private final double mutationRate;
+    private final int tournamentSize;
+    private final Random random;
+
+    //Kromosom staging (parent dan offspring)
+    private final Chromosome parent1;
+    private final Chromosome parent2;
+    private final Chromosome child1;
+    private final Chromosome child2;
+
+    //Evaluasi paralel populasi awal (null = sequential)
+    private ParallelEvaluator parallelEvaluator;
+
+    //Mutasi adaptif yang diberi snapshot statistik per step (null jika mutasi biasa)
+    private final AdaptiveMutation adaptiveMutation;
+    private final LocusDiversity diversity;
+    private final Chromosome replaced;
+    private int generation;
+
+    private int bestIndex = -1;
+    private double bestFitness = Double.MAX_VALUE;
+    private long steps;
+    private long evaluations;
+    private long replacements;
+
+    //Constructor
+    public OffHeapGeneticAlgorithm(Puzzle puzzle, OffHeapPopulation population,
+                                   CrossoverStrategy crossoverStrategy, MutationStrategy mutationStrategy,
+                                   double crossoverRate, double mutationRate, int tournamentSize, Random random) {
+        if (population.getWidth() != puzzle.getWidth() || population.getHeight() != puzzle.getHeight()) {
+            throw new IllegalArgumentException("Population board size does not match puzzle");
+        }
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("tournamentSize must be >= 1");
+        }
+        this.population = population;
+        this.fitnessFunction = new FitnessFunction(puzzle);
+        this.crossoverStrategy = crossoverStrategy;
+        this.mutationStrategy = mutationStrategy;
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+        this.tournamentSize = tournamentSize;
+        this.random = random;
+        this.parent1 = population.newStagingChromosome();
+        this.parent2 = population.newStagingChromosome();
+        this.child1 = population.newStagingChromosome();
+        this.child2 = population.newStagingChromosome();
+        if (mutationStrategy instanceof AdaptiveMutation) {
+            this.adaptiveMutation = (AdaptiveMutation) mutationStrategy;
+            this.diversity = new LocusDiversity(population.getWidth(), population.getHeight());
+            this.replaced = population.newStagingChromosome();
+        } else {
+            this.adaptiveMutation = null;
+            this.diversity = null;
+            this.replaced = null;
+        }
+    }
+
+    //Memakai evaluator paralel untuk evaluasi populasi awal
+    public void setParallelEvaluator(ParallelEvaluator parallelEvaluator) {
+        this.parallelEvaluator = parallelEvaluator;
+    }
+
+    //Mengevaluasi semua individu yang fitness-nya belum dihitung dan mencari individu terbaik
+    public void initialize() {
+        int size = population.getSize();
+        int block = 4096;
+        int blocks = (size + block - 1) / block;
+        ThreadLocal<Chromosome> staging = ThreadLocal.withInitial(population::newStagingChromosome);
+        long[] evaluated = new long[blocks];
+
+        if (parallelEvaluator != null && blocks > 1) {
+            parallelEvaluator.forEach(blocks, b -> evaluated[b] = evaluateRange(b * block, Math.min(size, (b + 1) * block), staging.get()));
+        } else {
+            for (int b = 0; b < blocks; b++) {
+                evaluated[b] = evaluateRange(b * block, Math.min(size, (b + 1) * block), staging.get());
+            }
+        }
+        for (long count : evaluated) {
+            evaluations += count;
+        }
+
+        bestIndex = 0;
+        bestFitness = population.getFitness(0);
+        for (int i = 1; i < size; i++) {
+            double fitness = population.getFitness(i);
+            if (fitness < bestFitness) {
+                bestFitness = fitness;
+                bestIndex = i;
+            }
+        }
+
+        if (diversity != null) {
+            Chromosome loaded = staging.get();
+            diversity.clear();
+            for (int i = 0; i < size; i++) {
+                population.load(i, loaded);
+                diversity.add(loaded);
+            }
+        }
+    }
+
+    //Mengevaluasi individu from..to yang belum dihitung; return jumlah evaluasi
+    private long evaluateRange(int from, int to, Chromosome staging) {
+        long count = 0;
+        for (int i = from; i < to; i++) {
+            if (population.isFitnessCalculated(i)) {
+                continue;
+            }
+            population.load(i, staging);
+            population.setFitness(i, fitnessFunction.calculateFitness(staging));
+            count++;
+        }
+        return count;
+    }
+
+    //Menjalankan offspringPairs kali reproduksi (masing-masing dua offspring)
+    public void step(int offspringPairs) {
+        if (adaptiveMutation != null) {
+            adaptiveMutation.updateStatistics(statistics());
+        }
+        for (int p = 0; p < offspringPairs && bestFitness > 0.0; p++) {
+            population.load(tournament(true), parent1);
+            population.load(tournament(true), parent2);
+
+            if (random.nextDouble() < crossoverRate) {
+                crossoverStrategy.crossoverInto(parent1, parent2, child1, child2, random);
+            } else {
+                child1.copyFrom(parent1);
+                child2.copyFrom(parent2);
+            }
+            mutationStrategy.mutate(child1, mutationRate, random);
+            mutationStrategy.mutate(child2, mutationRate, random);
+
+            insert(child1);
+            insert(child2);
+            steps++;
+        }
+        generation++;
+    }
+
+    //Snapshot statistik populasi: mean dan std dev dari scan fitness record (O(n) baca per step,
+    //kecil dibanding n evaluasi offspring), best dan diversity dari nilai yang dijaga incremental
+    private PopulationStatistics statistics() {
+        int size = population.getSize();
+        double sum = 0.0;
+        for (int i = 0; i < size; i++) {
+            sum += population.getFitness(i);
+        }
+        double mean = sum / size;
+        double variance = 0.0;
+        for (int i = 0; i < size; i++) {
+            double diff = population.getFitness(i) - mean;
+            variance += diff * diff;
+        }
+        return new PopulationStatistics(generation, diversity.getDiversity(),
+            Math.sqrt(variance / size), bestFitness, mean);
+    }
+
+    //Mengevaluasi offspring dan menggantikan individu terburuk dari tournament terbalik
+    private void insert(Chromosome child) {
+        if (!child.isFitnessCalculated()) {
+            evaluations++;
+        }
+        double fitness = fitnessFunction.calculateFitness(child);
+        int victim = tournament(false);
+        if (victim == bestIndex || fitness > population.getFitness(victim)) {
+            return;
+        }
+        if (diversity != null) {
+            population.load(victim, replaced);
+            diversity.replace(replaced, child);
+        }
+        population.store(victim, child);
+        replacements++;
+        if (fitness < bestFitness) {
+            bestFitness = fitness;
+            bestIndex = victim;
+        }
+    }
+
+    //Tournament berdasarkan index: best = true memilih fitness terkecil, false memilih terbesar
+    private int tournament(boolean best) {
+        int size = population.getSize();
+        int winner = random.nextInt(size);
+        double winnerFitness = population.getFitness(winner);
+        for (int k = 1; k < tournamentSize; k++) {
+            int candidate = random.nextInt(size);
+            double fitness = population.getFitness(candidate);
+            if (best ? fitness < winnerFitness : fitness > winnerFitness) {
+                winner = candidate;
+                winnerFitness = fitness;
+            }
+        }
+        return winner;
+    }
+
+    //Salinan individu terbaik
+    public Chromosome getBestChromosome() {
+        return (bestIndex >= 0) ? population.get(bestIndex) : null;
+    }
+
+    public double getBestFitness() { return bestFitness; }
+    public int getBestIndex() { return bestIndex; }
+    public boolean isSolutionFound() { return bestFitness == 0.0; }
+    public int getGeneration() { return generation; }
+    public long getSteps() { return steps; }
+    public long getEvaluations() { return evaluations; }
+    public long getReplacements() { return replacements; }
+    public OffHeapPopulation getPopulation() { return population; }
+}
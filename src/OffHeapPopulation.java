@@ -0,0 +1,274 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * Populasi di luar heap Java untuk run dengan jutaan individu.
+ *
+ * Setiap individu disimpan sebagai satu record berukuran tetap:
+ *   [fitness double][word genom 0 .. wordCount-1]
+ * dengan layout word yang sama dengan Chromosome (row-aligned, 64 sel per long).
+ * Fitness NaN berarti belum dihitung.
+ *
+ * Record berada di ByteBuffer direct (allocate) atau file yang di-memory-map (map).
+ * Satu ByteBuffer maksimal 2 GB, jadi populasi dibagi ke beberapa chunk dengan
+ * jumlah record yang sama.
+ *
+ * File yang di-map diawali header HEADER_BYTES byte:
+ *   [magic long][versi int][width int][height int][reserved int][jumlah record long]
+ * File dengan ukuran papan berbeda (atau tanpa header) ditolak. Jumlah record di header
+ * ditulis saat close(), sehingga record yang ditambahkan oleh run yang tidak
+ * selesai dianggap baru lagi saat file dibuka ulang.
+ *
+ * Strategi crossover/mutasi/fitness yang ada tetap dipakai lewat kromosom staging di
+ * heap: load() menyalin record ke Chromosome, store() menulis Chromosome kembali.
+ * Tidak ada objek per individu, sehingga memori heap tidak bergantung ukuran populasi.
+ *
+ * Tidak thread-safe untuk index yang sama; index berbeda boleh dibaca/ditulis paralel.
+ */
+public class OffHeapPopulation implements Closeable {
+    //Ukuran maksimal satu chunk (di bawah batas 2 GB ByteBuffer)
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    //Header file populasi yang di-map
+    private static final long FILE_MAGIC = 0x4D4F534149435031L;  // "MOSAICP1"
+    private static final int FILE_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+
+    private final int size;
+    private final int width;
+    private final int height;
+    private final int wordCount;
+    private final int recordBytes;
+    private final int recordsPerChunk;
+    private final ByteBuffer[] chunks;
+
+    //Channel file untuk populasi yang di-map (null untuk direct)
+    private final FileChannel channel;
+
+    //Jumlah record awal yang dibaca dari file (0 untuk direct atau file baru)
+    private final int restoredCount;
+
+    //Jumlah record yang tercatat di header file (bisa lebih besar dari size)
+    private final long fileRecords;
+
+    private OffHeapPopulation(int size, int width, int height, FileChannel channel,
+                              int restoredCount, long fileRecords) throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be >= 1");
+        }
+        this.size = size;
+        this.width = width;
+        this.height = height;
+        this.wordCount = Chromosome.wordsPerRow(width) * height;
+        this.recordBytes = 8 * (1 + wordCount);
+        this.recordsPerChunk = (int) Math.max(1, Math.min(size, MAX_CHUNK_BYTES / recordBytes));
+        this.channel = channel;
+        this.restoredCount = restoredCount;
+        this.fileRecords = fileRecords;
+        long offset = (channel != null) ? HEADER_BYTES : 0L;
+
+        int chunkCount = (size + recordsPerChunk - 1) / recordsPerChunk;
+        this.chunks = new ByteBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            int records = Math.min(recordsPerChunk, size - c * recordsPerChunk);
+            long bytes = (long) records * recordBytes;
+            ByteBuffer chunk = (channel != null)
+                ? channel.map(FileChannel.MapMode.READ_WRITE, offset + (long) c * recordsPerChunk * recordBytes, bytes)
+                : ByteBuffer.allocateDirect((int) bytes);
+            chunks[c] = chunk.order(ByteOrder.nativeOrder());
+        }
+    }
+
+    //Populasi di memori direct (off-heap), semua sel putih dan fitness belum dihitung
+    public static OffHeapPopulation allocate(int size, int width, int height) {
+        try {
+            OffHeapPopulation population = new OffHeapPopulation(size, width, height, null, 0, 0L);
+            population.clearFitness();
+            return population;
+        } catch (IOException e) {
+            // Tidak terjadi untuk buffer direct
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //Populasi di file yang di-memory-map (dibuat/diperbesar jika perlu). Record yang sudah ada di file
+    //dipertahankan, sehingga populasi bisa dilanjutkan antar run; record baru (index >= getRestoredCount())
+    //berisi fitness belum dihitung. File yang ditulis untuk ukuran papan lain ditolak.
+    public static OffHeapPopulation map(Path file, int size, int width, int height) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long fileRecords = (channel.size() == 0) ? 0L : readHeader(channel, file, width, height);
+            int existing = (int) Math.min(size, fileRecords);
+            OffHeapPopulation population = new OffHeapPopulation(size, width, height, channel, existing, fileRecords);
+            for (int i = existing; i < size; i++) {
+                population.setFitness(i, Double.NaN);
+            }
+            population.writeHeader(fileRecords);
+            return population;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    //Membaca header file dan memeriksa ukuran papan; return jumlah record yang tersimpan
+    private static long readHeader(FileChannel channel, Path file, int width, int height) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.nativeOrder());
+        channel.read(header, 0L);
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getLong() != FILE_MAGIC) {
+            throw new IOException(file + " is not an off-heap population file");
+        }
+        int version = header.getInt();
+        if (version != FILE_VERSION) {
+            throw new IOException(file + " has unsupported population file version " + version);
+        }
+        int fileWidth = header.getInt();
+        int fileHeight = header.getInt();
+        if (fileWidth != width || fileHeight != height) {
+            throw new IOException(file + " was written for a " + fileWidth + "x" + fileHeight
+                + " board, not " + width + "x" + height);
+        }
+        header.getInt();
+        return header.getLong();
+    }
+
+    //Menulis header file dengan jumlah record tertentu
+    private void writeHeader(long records) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.nativeOrder());
+        header.putLong(FILE_MAGIC).putInt(FILE_VERSION).putInt(width).putInt(height).putInt(0)
+            .putLong(records);
+        header.flip();
+        channel.write(header, 0L);
+    }
+
+    //Menandai fitness semua individu belum dihitung
+    public void clearFitness() {
+        for (int i = 0; i < size; i++) {
+            setFitness(i, Double.NaN);
+        }
+    }
+
+    //Mengisi gen semua individu secara acak (setiap sel hitam dengan peluang 1/2)
+    public void randomize(Random random) {
+        randomize(random, 0, size);
+    }
+
+    //Mengisi gen individu from..to secara acak (misalnya hanya record baru setelah map())
+    public void randomize(Random random, int from, int to) {
+        Chromosome staging = newStagingChromosome();
+        long[] words = new long[wordCount];
+        for (int i = from; i < to; i++) {
+            for (int w = 0; w < wordCount; w++) {
+                words[w] = random.nextLong();
+            }
+            staging.setWords(words);  // bit padding dibuang
+            store(i, staging);
+        }
+    }
+
+    //Kromosom kosong berukuran papan populasi, untuk dipakai berulang dengan load()/store()
+    public Chromosome newStagingChromosome() {
+        return new Chromosome(width, height, new boolean[0]);
+    }
+
+    //Menyalin individu index ke kromosom target (gen dan fitness jika sudah dihitung)
+    public void load(int index, Chromosome target) {
+        checkSize(target);
+        ByteBuffer chunk = chunk(index);
+        int base = base(index);
+        for (int w = 0; w < wordCount; w++) {
+            target.setWord(w, chunk.getLong(base + 8 + 8 * w));
+        }
+        double fitness = chunk.getDouble(base);
+        if (!Double.isNaN(fitness)) {
+            target.setFitness(fitness);
+        }
+    }
+
+    //Individu index sebagai kromosom baru
+    public Chromosome get(int index) {
+        Chromosome chromosome = newStagingChromosome();
+        load(index, chromosome);
+        return chromosome;
+    }
+
+    //Menulis kromosom ke individu index (fitness NaN jika belum dihitung)
+    public void store(int index, Chromosome source) {
+        checkSize(source);
+        ByteBuffer chunk = chunk(index);
+        int base = base(index);
+        for (int w = 0; w < wordCount; w++) {
+            chunk.putLong(base + 8 + 8 * w, source.getWord(w));
+        }
+        chunk.putDouble(base, source.isFitnessCalculated() ? source.getFitness() : Double.NaN);
+    }
+
+    //Fitness individu index (NaN jika belum dihitung)
+    public double getFitness(int index) {
+        return chunk(index).getDouble(base(index));
+    }
+
+    public void setFitness(int index, double fitness) {
+        chunk(index).putDouble(base(index), fitness);
+    }
+
+    public boolean isFitnessCalculated(int index) {
+        return !Double.isNaN(getFitness(index));
+    }
+
+    //Word ke-w genom individu index
+    public long getWord(int index, int w) {
+        return chunk(index).getLong(base(index) + 8 + 8 * w);
+    }
+
+    //Menulis perubahan ke file (hanya untuk populasi yang di-map)
+    public void force() {
+        if (channel == null) {
+            return;
+        }
+        for (ByteBuffer chunk : chunks) {
+            ((MappedByteBuffer) chunk).force();
+        }
+    }
+
+    //Menutup file (populasi direct dilepas oleh garbage collector)
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            force();
+            writeHeader(Math.max(fileRecords, size));
+            channel.close();
+        }
+    }
+
+    private ByteBuffer chunk(int index) {
+        return chunks[index / recordsPerChunk];
+    }
+
+    private int base(int index) {
+        return (index % recordsPerChunk) * recordBytes;
+    }
+
+    private void checkSize(Chromosome chromosome) {
+        if (chromosome.getWidth() != width || chromosome.getHeight() != height) {
+            throw new IllegalArgumentException("Chromosome size does not match population board size");
+        }
+    }
+
+    public int getSize() { return size; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getWordCount() { return wordCount; }
+    public int getRecordBytes() { return recordBytes; }
+    public boolean isMapped() { return channel != null; }
+    public int getRestoredCount() { return restoredCount; }
+}
@@ -0,0 +1,83 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Menjalankan pekerjaan per individu (evaluasi fitness, heuristik) secara paralel
+ * dengan fork-join.
+ *
+ * Hasil identik dengan versi sequential karena setiap task hanya menyentuh
+ * kromosomnya sendiri dan tidak memakai Random; semua keputusan acak tetap dibuat
+ * oleh thread utama GA dengan urutan yang sama.
+ */
+public class ParallelEvaluator {
+    //Jumlah individu minimum per task sebelum dipecah lagi
+    private static final int DEFAULT_THRESHOLD = 16;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    //Constructor dengan jumlah thread tertentu
+    public ParallelEvaluator(int parallelism) {
+        this(new ForkJoinPool(Math.max(1, parallelism)), DEFAULT_THRESHOLD);
+    }
+
+    //Constructor dengan pool yang sudah ada (misalnya ForkJoinPool.commonPool())
+    public ParallelEvaluator(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = Math.max(1, threshold);
+    }
+
+    //Jumlah thread yang dipakai
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    //Mengevaluasi fitness seluruh populasi secara paralel
+    public void evaluate(Chromosome[] population, FitnessFunction fitnessFunction) {
+        forEach(population.length, i -> fitnessFunction.calculateFitness(population[i]));
+    }
+
+    //Menjalankan action untuk setiap index 0..count-1 secara paralel dan menunggu sampai selesai
+    public void forEach(int count, IntConsumer action) {
+        if (count <= 0) {
+            return;
+        }
+        pool.invoke(new RangeTask(action, 0, count, threshold));
+    }
+
+    //Menghentikan thread pool
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    //Task fork-join untuk satu range index
+    private static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer action;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        RangeTask(IntConsumer action, int from, int to, int threshold) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(action, from, mid, threshold),
+                      new RangeTask(action, mid, to, threshold));
+        }
+    }
+}
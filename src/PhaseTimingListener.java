@@ -0,0 +1,64 @@
+import java.io.PrintStream;
+
+/**
+ * Listener yang menjumlahkan waktu per fase dan jumlah evaluasi selama satu run,
+ * lalu mencetak ringkasan di mana waktu GA dihabiskan.
+ */
+public class PhaseTimingListener implements GenerationListener {
+    private final long[] phaseNanos = new long[GenerationMetrics.Phase.values().length];
+    private long totalNanos;
+    private long initNanos;
+    private long evaluations;
+    private long localSearchEvaluations;
+    private int generations;
+    private int escapes;
+
+    @Override
+    public void onStart(GenerationMetrics initial) {
+        initNanos = initial.getTotalNanos();
+        evaluations += initial.getEvaluations();
+    }
+
+    @Override
+    public void onGeneration(GenerationMetrics metrics) {
+        for (GenerationMetrics.Phase phase : GenerationMetrics.Phase.values()) {
+            phaseNanos[phase.ordinal()] += metrics.getNanos(phase);
+        }
+        totalNanos += metrics.getTotalNanos();
+        evaluations += metrics.getEvaluations();
+        localSearchEvaluations += metrics.getLocalSearchEvaluations();
+        generations++;
+        if (metrics.getEscapeType() != GenerationMetrics.EscapeType.NONE) {
+            escapes++;
+        }
+    }
+
+    public long getNanos(GenerationMetrics.Phase phase) { return phaseNanos[phase.ordinal()]; }
+    public long getTotalNanos() { return totalNanos; }
+    public long getEvaluations() { return evaluations; }
+    public int getGenerations() { return generations; }
+
+    //Mencetak tabel waktu per fase
+    public void printSummary(PrintStream out) {
+        out.println("\n--- Phase Timings ---");
+        out.printf("  %-14s %12s %8s %14s%n", "Phase", "Total (ms)", "Share", "Per gen (us)");
+        for (GenerationMetrics.Phase phase : GenerationMetrics.Phase.values()) {
+            long nanos = phaseNanos[phase.ordinal()];
+            out.printf("  %-14s %12.2f %7.1f%% %14.1f%n", phase,
+                nanos / 1e6,
+                (totalNanos > 0) ? nanos * 100.0 / totalNanos : 0.0,
+                (generations > 0) ? nanos / 1e3 / generations : 0.0);
+        }
+        long accounted = 0;
+        for (long nanos : phaseNanos) {
+            accounted += nanos;
+        }
+        out.printf("  %-14s %12.2f %7.1f%%%n", "OTHER",
+            (totalNanos - accounted) / 1e6,
+            (totalNanos > 0) ? (totalNanos - accounted) * 100.0 / totalNanos : 0.0);
+        out.printf("  Generations: %d, total %.2f ms (+ init %.2f ms), escapes: %d%n",
+            generations, totalNanos / 1e6, initNanos / 1e6, escapes);
+        out.println("  Fitness evaluations: " + evaluations
+            + (localSearchEvaluations > 0 ? ", local search delta evaluations: " + localSearchEvaluations : ""));
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Snapshot statistik populasi untuk satu generasi.
+ * Dibuat sekali oleh engine per generasi lalu dibagikan ke komponen yang
+ * membutuhkannya (misalnya AdaptiveMutation), sehingga statistik tidak dihitung
+ * ulang untuk setiap anak.
+ */
+public class PopulationStatistics {
+    private final int generation;
+    private final double diversity;
+    private final double fitnessStdDev;
+    private final double bestFitness;
+    private final double averageFitness;
+    
+    //Constructor
+    public PopulationStatistics(int generation, double diversity, double fitnessStdDev,
+                                double bestFitness, double averageFitness) {
+        this.generation = generation;
+        this.diversity = diversity;
+        this.fitnessStdDev = fitnessStdDev;
+        this.bestFitness = bestFitness;
+        this.averageFitness = averageFitness;
+    }
+    
+    //Menghitung snapshot langsung dari populasi
+    public static PopulationStatistics of(int generation, Chromosome[] population) {
+        double best = Double.MAX_VALUE;
+        double total = 0.0;
+        for (Chromosome c : population) {
+            if (c.getFitness() < best) {
+                best = c.getFitness();
+            }
+            total += c.getFitness();
+        }
+        double diversity = (population.length > 1) ? DiversityMeasure.calculateDiversity(population) : 0.0;
+        double stdDev = DiversityMeasure.calculateFitnessDiversity(population);
+        double average = (population.length > 0) ? total / population.length : 0.0;
+        return new PopulationStatistics(generation, diversity, stdDev, best, average);
+    }
+    
+    public int getGeneration() { return generation; }
+    public double getDiversity() { return diversity; }
+    public double getFitnessStdDev() { return fitnessStdDev; }
+    public double getBestFitness() { return bestFitness; }
+    public double getAverageFitness() { return averageFitness; }
+}
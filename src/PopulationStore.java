@@ -0,0 +1,292 @@
+import java.util.Arrays;
+
+/**
+ * Penyimpanan populasi structure-of-arrays.
+ *
+ * - Gen semua individu berada di satu buffer long[] yang bersambung
+ *   (slot s memakai word s * wordCount .. (s + 1) * wordCount)
+ * - Setiap slot punya Chromosome view ke buffer tersebut, sehingga strategi seleksi,
+ *   crossover, mutasi dan evaluasi tetap bekerja tanpa perubahan
+ * - Fitness disalin sekali ke double[] datar (urutan array populasi), lalu pengurutan
+ *   dan statistik populasi hanya membaca array primitif itu
+ * - Pengurutan menghasilkan permutasi rank int[] lewat radix sort LSD yang stabil
+ *   pada key 64-bit dari fitness (merge sort stabil pada key yang sama untuk populasi
+ *   kecil); urutannya sama persis dengan Arrays.sort memakai
+ *   Double.compare (termasuk urutan fitness yang sama), sehingga hasil GA identik
+ */
+public class PopulationStore {
+    //Bit per digit radix sort (6 pass untuk key 64-bit)
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    //Di bawah ukuran ini merge sort pada key primitif lebih murah daripada histogram radix
+    private static final int RADIX_THRESHOLD = 2048;
+
+    private final int capacity;
+    private final int width;
+    private final int height;
+    private final int wordCount;
+
+    //Gen semua slot, bersambung
+    private final long[] genes;
+
+    //View per slot
+    private final Chromosome[] views;
+
+    //Fitness per posisi array populasi (diisi loadFitness / sort)
+    private final double[] fitness;
+
+    //Permutasi rank: rank[i] = posisi individu peringkat ke-i di array populasi
+    private final int[] rank;
+
+    //Buffer kerja radix sort
+    private final long[] keys;
+    private final long[] keyBuffer;
+    private final int[] rankBuffer;
+    private final int[] histogram = new int[RADIX];
+    private final Chromosome[] reorder;
+    private final boolean[] used;
+    private final boolean[] claimed;
+
+    //Constructor untuk capacity individu berukuran width x height
+    public PopulationStore(int capacity, int width, int height) {
+        this.capacity = capacity;
+        this.width = width;
+        this.height = height;
+        this.wordCount = Chromosome.wordsPerRow(width) * height;
+        this.genes = new long[capacity * wordCount];
+        this.views = new Chromosome[capacity];
+        for (int slot = 0; slot < capacity; slot++) {
+            views[slot] = new Chromosome(width, height, genes, slot * wordCount);
+        }
+        this.fitness = new double[capacity];
+        this.rank = new int[capacity];
+        this.keys = new long[capacity];
+        this.keyBuffer = new long[capacity];
+        this.rankBuffer = new int[capacity];
+        this.reorder = new Chromosome[capacity];
+        this.used = new boolean[capacity];
+        this.claimed = new boolean[capacity];
+    }
+
+    //View kromosom untuk slot tertentu
+    public Chromosome getView(int slot) {
+        return views[slot];
+    }
+
+    //Salinan array semua view (urutan slot)
+    public Chromosome[] getViews() {
+        return views.clone();
+    }
+
+    //Slot dari kromosom jika kromosom adalah view store ini, -1 jika bukan
+    public int slotOf(Chromosome chromosome) {
+        if (!chromosome.isViewOf(genes)) {
+            return -1;
+        }
+        return chromosome.getOffset() / wordCount;
+    }
+
+    //Memastikan setiap elemen populasi adalah view store ini: kromosom lain (misalnya hasil
+    //escape atau migrasi) dan view yang muncul dua kali disalin ke slot yang tidak dipakai
+    public void adopt(Chromosome[] population) {
+        if (population.length > capacity) {
+            throw new IllegalArgumentException("Population larger than store capacity");
+        }
+        Arrays.fill(used, false);
+        boolean foreign = false;
+        for (Chromosome chromosome : population) {
+            int slot = slotOf(chromosome);
+            if (slot >= 0 && !used[slot]) {
+                used[slot] = true;
+            } else {
+                foreign = true;
+            }
+        }
+        if (!foreign) {
+            return;
+        }
+
+        // Kemunculan pertama setiap view tetap di slotnya, sisanya disalin ke slot bebas
+        Arrays.fill(claimed, false);
+        int free = 0;
+        for (int i = 0; i < population.length; i++) {
+            int slot = slotOf(population[i]);
+            if (slot >= 0 && !claimed[slot]) {
+                claimed[slot] = true;
+                continue;
+            }
+            while (used[free]) {
+                free++;
+            }
+            used[free] = true;
+            claimed[free] = true;
+            views[free].copyFrom(population[i]);
+            population[i] = views[free];
+        }
+    }
+
+    //Menyalin fitness populasi ke array datar (urutan array populasi)
+    public void loadFitness(Chromosome[] population) {
+        for (int i = 0; i < population.length; i++) {
+            fitness[i] = population[i].getFitness();
+        }
+    }
+
+    //Mengurutkan populasi berdasarkan fitness (terbaik dulu) lewat permutasi rank, stabil.
+    //Setelah ini getFitness(i) = fitness population[i].
+    public void sort(Chromosome[] population) {
+        int n = population.length;
+        loadFitness(population);
+        rankByFitness(n);
+
+        for (int i = 0; i < n; i++) {
+            reorder[i] = population[rank[i]];
+            keyBuffer[i] = Double.doubleToLongBits(fitness[rank[i]]);
+        }
+        for (int i = 0; i < n; i++) {
+            population[i] = reorder[i];
+            fitness[i] = Double.longBitsToDouble(keyBuffer[i]);
+            reorder[i] = null;
+        }
+    }
+
+    //Menghitung rank[0..n) dari fitness[0..n) dengan sort stabil pada key primitif
+    public int[] rankByFitness(int n) {
+        long diff = 0;
+        for (int i = 0; i < n; i++) {
+            keys[i] = sortableKey(fitness[i]);
+            rank[i] = i;
+            diff |= keys[i] ^ keys[0];
+        }
+        if (n < RADIX_THRESHOLD) {
+            mergeSort(n);
+        } else {
+            radixSort(n, diff);
+        }
+        return rank;
+    }
+
+    //Radix sort LSD (stabil) atas keys/rank; diff = bit yang berbeda antar key
+    private void radixSort(int n, long diff) {
+
+        long[] srcKeys = keys;
+        long[] dstKeys = keyBuffer;
+        int[] srcRank = rank;
+        int[] dstRank = rankBuffer;
+        for (int shift = 0; shift < 64; shift += RADIX_BITS) {
+            // Digit yang sama di semua key tidak mengubah urutan: pass dilewati
+            if (((diff >>> shift) & (RADIX - 1)) == 0) {
+                continue;
+            }
+            Arrays.fill(histogram, 0);
+            for (int i = 0; i < n; i++) {
+                histogram[(int) ((srcKeys[i] >>> shift) & (RADIX - 1))]++;
+            }
+            int sum = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int count = histogram[d];
+                histogram[d] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int d = (int) ((srcKeys[i] >>> shift) & (RADIX - 1));
+                int position = histogram[d]++;
+                dstKeys[position] = srcKeys[i];
+                dstRank[position] = srcRank[i];
+            }
+            long[] tk = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tk;
+            int[] tr = srcRank;
+            srcRank = dstRank;
+            dstRank = tr;
+        }
+        if (srcRank != rank) {
+            System.arraycopy(srcRank, 0, rank, 0, n);
+        }
+    }
+
+    //Merge sort bottom-up (stabil) atas keys/rank, perbandingan unsigned pada key
+    private void mergeSort(int n) {
+        long[] srcKeys = keys;
+        long[] dstKeys = keyBuffer;
+        int[] srcRank = rank;
+        int[] dstRank = rankBuffer;
+        for (int width = 1; width < n; width <<= 1) {
+            for (int lo = 0; lo < n; lo += width << 1) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + (width << 1), n);
+                int i = lo;
+                int j = mid;
+                for (int k = lo; k < hi; k++) {
+                    if (i < mid && (j >= hi || Long.compareUnsigned(srcKeys[i], srcKeys[j]) <= 0)) {
+                        dstKeys[k] = srcKeys[i];
+                        dstRank[k] = srcRank[i++];
+                    } else {
+                        dstKeys[k] = srcKeys[j];
+                        dstRank[k] = srcRank[j++];
+                    }
+                }
+            }
+            long[] tk = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tk;
+            int[] tr = srcRank;
+            srcRank = dstRank;
+            dstRank = tr;
+        }
+        if (srcRank != rank) {
+            System.arraycopy(srcRank, 0, rank, 0, n);
+        }
+    }
+
+    //Key unsigned yang urutannya sama dengan Double.compare
+    private static long sortableKey(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    //Fitness individu di posisi i array populasi (setelah loadFitness / sort)
+    public double getFitness(int i) {
+        return fitness[i];
+    }
+
+    //Jumlah fitness n individu pertama
+    public double sumFitness(int n) {
+        double total = 0.0;
+        for (int i = 0; i < n; i++) {
+            total += fitness[i];
+        }
+        return total;
+    }
+
+    //Fitness terbesar n individu pertama (minimal 0)
+    public double maxFitness(int n) {
+        double worst = 0.0;
+        for (int i = 0; i < n; i++) {
+            worst = Math.max(worst, fitness[i]);
+        }
+        return worst;
+    }
+
+    //Standar deviasi fitness n individu pertama (sama dengan DiversityMeasure.calculateFitnessDiversity)
+    public double fitnessStdDev(int n) {
+        if (n == 0) {
+            return 0.0;
+        }
+        double meanFitness = sumFitness(n) / n;
+        double variance = 0.0;
+        for (int i = 0; i < n; i++) {
+            double diff = fitness[i] - meanFitness;
+            variance += diff * diff;
+        }
+        variance /= n;
+        return Math.sqrt(variance);
+    }
+
+    public int getCapacity() { return capacity; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getWordCount() { return wordCount; }
+}
@@ -1,8 +1,13 @@
+import java.io.PrintStream;
+
 public class Puzzle {
     private int width;
     private int height;
     private int[][] board;
     
+    //Index hint yang dihitung sekali (immutable)
+    private HintIndex hintIndex;
+    
     //Constructor
     public Puzzle(int width, int height, int[][] hints) {
         this.width = width;
@@ -15,6 +20,8 @@ public class Puzzle {
                 this.board[i][j] = hints[i][j];
             }
         }
+        
+        this.hintIndex = new HintIndex(width, height, board);
     }
     //Getter untuk lebar papan
     public int getWidth() {
@@ -39,34 +46,24 @@ public class Puzzle {
         return getValue(row, col) >= 0;
     }
     
-    //Return all numbers (0-9) positions
+    //Return precomputed, read-only hint index (use this in hot paths)
+    public HintIndex getHintIndex() {
+        return hintIndex;
+    }
+    
+    //Return number of numbers (0-9) on the board
+    public int getHintCount() {
+        return hintIndex.getHintCount();
+    }
+    
+    //Return all numbers (0-9) positions as a fresh {row, col, value} array
     public int[][] getHintPositions() {
-        int count = 0;
-        
-        //Count number of numbers (0-9)
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                if (board[i][j] >= 0) {
-                    count++;
-                }
-            }
-        }
-        
-        //Create array of numbers (0-9) positions
-        int[][] hints = new int[count][3];
-        int index = 0;
-        
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                if (board[i][j] >= 0) {
-                    hints[index][0] = i;  // row
-                    hints[index][1] = j;  // col
-                    hints[index][2] = board[i][j];  // value
-                    index++;
-                }
-            }
+        int[][] hints = new int[hintIndex.getHintCount()][3];
+        for (int h = 0; h < hints.length; h++) {
+            hints[h][0] = hintIndex.getRow(h);    // row
+            hints[h][1] = hintIndex.getCol(h);    // col
+            hints[h][2] = hintIndex.getValue(h);  // value
         }
-        
         return hints;
     }
     
@@ -88,16 +85,21 @@ public class Puzzle {
     
     //Print puzzle board
     public void print() {
-        System.out.println("Puzzle Board (" + width + "x" + height + "):");
+        print(System.out);
+    }
+    
+    //Print puzzle board ke output tertentu
+    public void print(PrintStream out) {
+        out.println("Puzzle Board (" + width + "x" + height + "):");
         for (int i = 0; i < height; i++) {
             for (int j = 0; j < width; j++) {
                 if (board[i][j] == -1) {
-                    System.out.print("  ");
+                    out.print("  ");
                 } else {
-                    System.out.print(board[i][j] + " ");
+                    out.print(board[i][j] + " ");
                 }
             }
-            System.out.println();
+            out.println();
         }
     }
 }
@@ -0,0 +1,224 @@
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Pembaca puzzle cepat berbasis NIO untuk file berisi satu atau banyak puzzle.
+ *
+ * Format: setiap puzzle adalah "width height" diikuti width*height angka (-1 = sel kosong),
+ * dipisah whitespace. Beberapa puzzle boleh disambung dalam satu file. Baris yang diawali
+ * '#' dianggap komentar.
+ *
+ * Cara kerja:
+ * - FileChannel dibaca per blok ke buffer 64 KB (tidak seluruh file dimuat ke memori)
+ * - Tokenizer integer ditulis manual langsung di atas byte[] (tanpa Scanner/regex/String)
+ * - Puzzle di-parse lazy satu per satu lewat Iterator, sehingga corpus puluhan ribu
+ *   puzzle bisa dialirkan ke solver dengan memori konstan
+ *
+ * Error I/O dan format dari hasNext()/next() dilempar sebagai UncheckedIOException.
+ */
+public class PuzzleReader implements Iterator<Puzzle>, Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private int position;
+    private int limit;
+    private boolean endOfFile;
+
+    //Puzzle berikutnya yang sudah di-parse (null jika belum)
+    private Puzzle nextPuzzle;
+    private int puzzleCount;
+
+    //Constructor, membuka file
+    public PuzzleReader(File file) throws FileNotFoundException {
+        this.channel = new FileInputStream(file).getChannel();
+        this.bytes = new byte[BUFFER_SIZE];
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    //Membaca puzzle pertama dari file
+    public static Puzzle readFirst(File file) throws IOException {
+        try (PuzzleReader reader = new PuzzleReader(file)) {
+            Puzzle puzzle = reader.readPuzzle();
+            if (puzzle == null) {
+                throw new IOException("No puzzle in " + file.getPath());
+            }
+            return puzzle;
+        }
+    }
+
+    //Membaca semua puzzle dari file
+    public static List<Puzzle> readAll(File file) throws IOException {
+        List<Puzzle> puzzles = new ArrayList<>();
+        try (PuzzleReader reader = new PuzzleReader(file)) {
+            Puzzle puzzle;
+            while ((puzzle = reader.readPuzzle()) != null) {
+                puzzles.add(puzzle);
+            }
+        }
+        return puzzles;
+    }
+
+    //Membaca ukuran puzzle pertama {width, height} tanpa mem-parse isi papan
+    public static int[] readDimensions(File file) throws IOException {
+        try (PuzzleReader reader = new PuzzleReader(file)) {
+            if (!reader.skipToToken()) {
+                throw new IOException("No puzzle in " + file.getPath());
+            }
+            int width = reader.nextInt();
+            int height = reader.nextInt();
+            return new int[] {width, height};
+        }
+    }
+
+    //Jumlah puzzle yang sudah dibaca
+    public int getPuzzleCount() {
+        return puzzleCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextPuzzle == null) {
+            try {
+                nextPuzzle = readPuzzle();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return nextPuzzle != null;
+    }
+
+    @Override
+    public Puzzle next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Puzzle puzzle = nextPuzzle;
+        nextPuzzle = null;
+        return puzzle;
+    }
+
+    //Membaca puzzle berikutnya, null jika file sudah habis
+    public Puzzle readPuzzle() throws IOException {
+        if (nextPuzzle != null) {
+            Puzzle puzzle = nextPuzzle;
+            nextPuzzle = null;
+            return puzzle;
+        }
+        if (!skipToToken()) {
+            return null;
+        }
+
+        int width = nextInt();
+        int height = nextInt();
+        if (width <= 0 || height <= 0) {
+            throw new IOException("Invalid size " + width + "x" + height + " in puzzle " + (puzzleCount + 1));
+        }
+
+        int[][] board = new int[height][width];
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                if (!skipToToken()) {
+                    throw new IOException("Unexpected end of file in puzzle " + (puzzleCount + 1));
+                }
+                board[i][j] = nextInt();
+            }
+        }
+        puzzleCount++;
+        return new Puzzle(width, height, board);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    //Melewati whitespace dan komentar; false jika file habis
+    private boolean skipToToken() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return false;
+            }
+            byte b = bytes[position];
+            if (b == '#') {
+                skipLine();
+            } else if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                position++;
+            } else {
+                return true;
+            }
+        }
+    }
+
+    //Melewati sampai akhir baris
+    private void skipLine() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return;
+            }
+            if (bytes[position++] == '\n') {
+                return;
+            }
+        }
+    }
+
+    //Parse satu integer (boleh negatif) mulai dari posisi sekarang
+    private int nextInt() throws IOException {
+        if (!skipToToken()) {
+            throw new IOException("Unexpected end of file in puzzle " + (puzzleCount + 1));
+        }
+        boolean negative = false;
+        if (bytes[position] == '-') {
+            negative = true;
+            position++;
+        }
+
+        int value = 0;
+        int digits = 0;
+        while (position < limit || fill()) {
+            int digit = bytes[position] - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            value = value * 10 + digit;
+            digits++;
+            position++;
+        }
+
+        if (digits == 0 || digits > 9) {
+            throw new IOException("Invalid number in puzzle " + (puzzleCount + 1));
+        }
+        return negative ? -value : value;
+    }
+
+    //Mengisi ulang buffer dari channel; false jika file habis
+    private boolean fill() throws IOException {
+        if (endOfFile) {
+            return false;
+        }
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        if (read < 0) {
+            endOfFile = true;
+            position = limit = 0;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Peringkat slot populasi berdasarkan fitness, untuk GA steady-state.
+ *
+ * Berisi dua indexed binary heap atas index slot populasi yang sama:
+ * - min-heap: slot dengan fitness terbaik (terkecil) di root
+ * - max-heap: slot dengan fitness terburuk (terbesar) di root
+ * Posisi setiap slot di kedua heap disimpan, sehingga mengganti isi satu slot
+ * (offspring menggantikan individu terburuk) cukup sift O(log n) di kedua heap,
+ * tanpa mengurutkan ulang seluruh populasi.
+ *
+ * Fitness sama diurutkan berdasarkan index slot agar hasil deterministik.
+ */
+public class RankedPopulation {
+    private final int size;
+
+    //Fitness per slot
+    private final double[] keys;
+
+    //Heap berisi index slot; pos[slot] = posisi slot di heap
+    private final int[] minHeap;
+    private final int[] minPos;
+    private final int[] maxHeap;
+    private final int[] maxPos;
+
+    //Constructor untuk populasi berukuran size
+    public RankedPopulation(int size) {
+        this.size = size;
+        this.keys = new double[size];
+        this.minHeap = new int[size];
+        this.minPos = new int[size];
+        this.maxHeap = new int[size];
+        this.maxPos = new int[size];
+    }
+
+    //Membangun ulang kedua heap dari fitness populasi (heapify O(n))
+    public void rebuild(Chromosome[] population) {
+        if (population.length != size) {
+            throw new IllegalArgumentException("Population size does not match ranked size");
+        }
+        for (int slot = 0; slot < size; slot++) {
+            keys[slot] = population[slot].getFitness();
+            minHeap[slot] = slot;
+            minPos[slot] = slot;
+            maxHeap[slot] = slot;
+            maxPos[slot] = slot;
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(minHeap, minPos, i, true);
+            siftDown(maxHeap, maxPos, i, false);
+        }
+    }
+
+    //Memperbarui fitness satu slot (misalnya setelah isi slot diganti offspring), O(log n)
+    public void update(int slot, double fitness) {
+        keys[slot] = fitness;
+        restore(minHeap, minPos, minPos[slot], true);
+        restore(maxHeap, maxPos, maxPos[slot], false);
+    }
+
+    //Slot dengan fitness terbaik
+    public int getBestSlot() {
+        return minHeap[0];
+    }
+
+    //Slot dengan fitness terburuk
+    public int getWorstSlot() {
+        return maxHeap[0];
+    }
+
+    public double getBestFitness() {
+        return keys[minHeap[0]];
+    }
+
+    public double getWorstFitness() {
+        return keys[maxHeap[0]];
+    }
+
+    public double getFitness(int slot) {
+        return keys[slot];
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    //Sift up atau down dari posisi i, mana yang diperlukan
+    private void restore(int[] heap, int[] pos, int i, boolean min) {
+        if (i > 0 && before(heap[i], heap[(i - 1) >>> 1], min)) {
+            siftUp(heap, pos, i, min);
+        } else {
+            siftDown(heap, pos, i, min);
+        }
+    }
+
+    private void siftUp(int[] heap, int[] pos, int i, boolean min) {
+        int slot = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(slot, heap[parent], min)) {
+                break;
+            }
+            heap[i] = heap[parent];
+            pos[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = slot;
+        pos[slot] = i;
+    }
+
+    private void siftDown(int[] heap, int[] pos, int i, boolean min) {
+        int slot = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && before(heap[right], heap[child], min)) {
+                child = right;
+            }
+            if (!before(heap[child], slot, min)) {
+                break;
+            }
+            heap[i] = heap[child];
+            pos[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = slot;
+        pos[slot] = i;
+    }
+
+    //Apakah slot a harus berada di atas slot b (min-heap: fitness lebih kecil, max-heap: lebih besar)
+    private boolean before(int a, int b, boolean min) {
+        int cmp = Double.compare(keys[a], keys[b]);
+        if (cmp == 0) {
+            cmp = Integer.compare(a, b);
+        }
+        return min ? cmp < 0 : cmp > 0;
+    }
+}
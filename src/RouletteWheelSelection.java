@@ -1,8 +1,59 @@
 import java.util.Random;
+
+/**
+ * Roulette Wheel Selection dengan fitness scaling.
+ *
+ * Distribusi probabilitas dihitung sekali per generasi (saat prepare() dipanggil atau
+ * saat select() menerima array populasi yang berbeda), lalu setiap seleksi hanya
+ * melakukan sampling:
+ * - CUMULATIVE: binary search pada array kumulatif, O(log n). Memakai satu nextDouble()
+ *   per seleksi dan memilih individu yang sama persis dengan linear scan.
+ * - ALIAS: alias table (metode Vose), O(1) per seleksi.
+ * - STOCHASTIC_UNIVERSAL: Stochastic Universal Sampling, satu putaran menghasilkan
+ *   n parent sekaligus (diacak urutannya), lalu select() mengambil dari antrian.
+ */
 public class RouletteWheelSelection implements SelectionStrategy {
-    //Memilih parent menggunakan Roulette Wheel Selection
+    //Mode sampling
+    public enum Mode { CUMULATIVE, ALIAS, STOCHASTIC_UNIVERSAL }
+    
+    private final Mode mode;
+    
+    //Populasi yang distribusinya sedang di-cache
+    private Chromosome[] preparedPopulation;
+    
+    //Probabilitas kumulatif (ternormalisasi) per individu
+    private double[] cumulative;
+    
+    //Alias table (mode ALIAS)
+    private double[] aliasProbability;
+    private int[] alias;
+    
+    //Antrian parent hasil Stochastic Universal Sampling (mode STOCHASTIC_UNIVERSAL)
+    private int[] susQueue;
+    private int susPosition;
+    
+    //Constructor dengan mode default (CUMULATIVE)
+    public RouletteWheelSelection() {
+        this(Mode.CUMULATIVE);
+    }
+    
+    //Constructor dengan mode sampling tertentu
+    public RouletteWheelSelection(Mode mode) {
+        this.mode = mode;
+    }
+    
+    public Mode getMode() {
+        return mode;
+    }
+    
+    //Membuang distribusi yang di-cache (misalnya setelah populasi diubah di tempat)
+    public void invalidate() {
+        preparedPopulation = null;
+    }
+    
+    //Menghitung distribusi seleksi untuk populasi ini
     @Override
-    public Chromosome select(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+    public void prepare(Chromosome[] population, FitnessFunction fitnessFunction) {
         // Hitung fitness untuk semua kromosom yang belum dihitung
         for (Chromosome chromosome : population) {
             if (!chromosome.isFitnessCalculated()) {
@@ -10,9 +61,14 @@ public class RouletteWheelSelection implements SelectionStrategy {
             }
         }
         
+        int n = population.length;
+        if (cumulative == null || cumulative.length != n) {
+            cumulative = new double[n];
+        }
+        double[] probabilities = cumulative;
+        
         // Hitung total fitness dengan Improved fitness scaling
         double totalFitness = 0.0;
-        double[] probabilities = new double[population.length];
         
         // Find min and max fitness untuk scaling
         double minFitness = Double.MAX_VALUE;
@@ -28,8 +84,8 @@ public class RouletteWheelSelection implements SelectionStrategy {
         
         if (fitnessRange < 0.001 || maxFitness < 0.001) {
             // uniform selection
-            double uniformProb = 1.0 / population.length;
-            for (int i = 0; i < probabilities.length; i++) {
+            double uniformProb = 1.0 / n;
+            for (int i = 0; i < n; i++) {
                 probabilities[i] = uniformProb;
             }
             totalFitness = 1.0;
@@ -38,56 +94,184 @@ public class RouletteWheelSelection implements SelectionStrategy {
             double c = fitnessRange * 0.1;  
             double scaledMax = maxFitness + c;
             
-            for (int i = 0; i < population.length; i++) {
-                double fitness = population[i].getFitness();
-                // Scaled fitness
-                double scaledFitness = scaledMax - fitness + c;
-                
-                double exponent;
-                boolean isFineTuningMode = (minFitness < 15.0 && fitnessRange < 20.0);
-                
-                if (isFineTuningMode) {
-                    if (minFitness < 2.0) {
-                        exponent = 4.0;  
-                    } else if (minFitness < 5.0) {
-                        exponent = 3.5;  
-                    } else {
-                        exponent = 3.0;  
-                    }
-                } else if (fitnessRange < 1.0) {
-                    exponent = 2.5;  
-                } else if (fitnessRange < 5.0) {
-                    exponent = 2.0;
-                } else if (fitnessRange < 20.0) {
-                    exponent = 1.8;
+            // Exponent sama untuk seluruh populasi, cukup dihitung sekali
+            double exponent;
+            boolean isFineTuningMode = (minFitness < 15.0 && fitnessRange < 20.0);
+            
+            if (isFineTuningMode) {
+                if (minFitness < 2.0) {
+                    exponent = 4.0;  
+                } else if (minFitness < 5.0) {
+                    exponent = 3.5;  
                 } else {
-                    exponent = 1.6;  
+                    exponent = 3.0;  
                 }
-                scaledFitness = Math.pow(scaledFitness, exponent);
-                
+            } else if (fitnessRange < 1.0) {
+                exponent = 2.5;  
+            } else if (fitnessRange < 5.0) {
+                exponent = 2.0;
+            } else if (fitnessRange < 20.0) {
+                exponent = 1.8;
+            } else {
+                exponent = 1.6;  
+            }
+            
+            for (int i = 0; i < n; i++) {
+                // Scaled fitness
+                double scaledFitness = Math.pow(scaledMax - population[i].getFitness() + c, exponent);
                 probabilities[i] = scaledFitness;
                 totalFitness += scaledFitness;
             }
         }
         
-        // Normalisasi probabilitas
-        for (int i = 0; i < probabilities.length; i++) {
-            probabilities[i] /= totalFitness;
+        // Normalisasi probabilitas lalu ubah menjadi kumulatif (urutan penjumlahan sama dengan linear scan)
+        if (mode == Mode.ALIAS) {
+            ensureAliasCapacity(n);
         }
-        
-        // Roulette wheel
-        double randomValue = random.nextDouble();
         double cumulativeProbability = 0.0;
+        for (int i = 0; i < n; i++) {
+            double probability = probabilities[i] / totalFitness;
+            if (mode == Mode.ALIAS) {
+                aliasProbability[i] = probability;
+            }
+            cumulativeProbability += probability;
+            cumulative[i] = cumulativeProbability;
+        }
         
-        for (int i = 0; i < population.length; i++) {
-            cumulativeProbability += probabilities[i];
-            if (randomValue <= cumulativeProbability) {
-                return population[i].clone();
+        if (mode == Mode.ALIAS) {
+            buildAliasTable(n);
+        }
+        susPosition = (susQueue == null) ? 0 : susQueue.length;
+        preparedPopulation = population;
+    }
+    
+    private void ensureAliasCapacity(int n) {
+        if (aliasProbability == null || aliasProbability.length != n) {
+            aliasProbability = new double[n];
+            alias = new int[n];
+        }
+    }
+    
+    //Membangun alias table (metode Vose) dari aliasProbability yang berisi probabilitas ternormalisasi
+    private void buildAliasTable(int n) {
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        
+        for (int i = 0; i < n; i++) {
+            aliasProbability[i] *= n;
+            alias[i] = i;
+            if (aliasProbability[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            alias[less] = more;
+            aliasProbability[more] = (aliasProbability[more] + aliasProbability[less]) - 1.0;
+            if (aliasProbability[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
             }
         }
         
+        // Sisa (karena rounding) mendapat probabilitas 1
+        while (largeCount > 0) {
+            aliasProbability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            aliasProbability[small[--smallCount]] = 1.0;
+        }
+    }
+    
+    //Memilih index parent menggunakan distribusi yang sudah disiapkan
+    public int selectIndex(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        if (population != preparedPopulation) {
+            prepare(population, fitnessFunction);
+        }
+        
+        switch (mode) {
+            case ALIAS:
+                return sampleAlias(random);
+            case STOCHASTIC_UNIVERSAL:
+                return nextUniversalSample(random);
+            default:
+                return sampleCumulative(random.nextDouble());
+        }
+    }
+    
+    //Memilih parent menggunakan Roulette Wheel Selection
+    @Override
+    public Chromosome select(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        return population[selectIndex(population, fitnessFunction, random)].clone();
+    }
+    
+    //Memilih parent tanpa clone (dipakai engine dalam mode arena)
+    @Override
+    public Chromosome selectReference(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        return population[selectIndex(population, fitnessFunction, random)];
+    }
+    
+    //Roulette wheel: index pertama dengan randomValue <= kumulatif (binary search)
+    private int sampleCumulative(double randomValue) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        
         // Fallback, kembalikan yang terakhir
-        return population[population.length - 1].clone();
+        if (randomValue > cumulative[high]) {
+            return high;
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (randomValue <= cumulative[mid]) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+    
+    private int sampleAlias(Random random) {
+        int i = random.nextInt(aliasProbability.length);
+        return (random.nextDouble() < aliasProbability[i]) ? i : alias[i];
+    }
+    
+    //Mengambil parent berikutnya dari antrian SUS, mengisi ulang satu putaran jika habis
+    private int nextUniversalSample(Random random) {
+        int n = cumulative.length;
+        if (susQueue == null || susQueue.length != n) {
+            susQueue = new int[n];
+            susPosition = n;
+        }
+        if (susPosition >= n) {
+            // n pointer berjarak 1/n dengan satu offset acak
+            double step = 1.0 / n;
+            double pointer = random.nextDouble() * step;
+            int index = 0;
+            for (int k = 0; k < n; k++) {
+                while (index < n - 1 && pointer > cumulative[index]) {
+                    index++;
+                }
+                susQueue[k] = index;
+                pointer += step;
+            }
+            
+            // Acak urutan agar pasangan parent tidak selalu bertetangga dalam urutan fitness
+            for (int k = n - 1; k > 0; k--) {
+                int j = random.nextInt(k + 1);
+                int temp = susQueue[k];
+                susQueue[k] = susQueue[j];
+                susQueue[j] = temp;
+            }
+            susPosition = 0;
+        }
+        return susQueue[susPosition++];
     }
 }
-
@@ -3,5 +3,15 @@ import java.util.Random;
 public interface SelectionStrategy {
     //Memilih parent dari populasi
     Chromosome select(Chromosome[] population, FitnessFunction fitnessFunction, Random random);
+    
+    //Memilih parent tanpa menyalin (referensi ke anggota populasi, hanya untuk dibaca).
+    //Default memakai select(), strategi yang bisa memilih tanpa clone sebaiknya override.
+    default Chromosome selectReference(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        return select(population, fitnessFunction, random);
+    }
+    
+    //Dipanggil engine sekali per generasi sebelum seleksi dimulai, agar strategi bisa
+    //menyiapkan struktur per generasi. Populasi tidak boleh berubah sampai prepare berikutnya.
+    default void prepare(Chromosome[] population, FitnessFunction fitnessFunction) {
+    }
 }
-
@@ -5,32 +5,27 @@ public class SinglePointCrossover implements CrossoverStrategy {
     //Melakukan single point crossover
     @Override
     public Chromosome[] crossover(Chromosome parent1, Chromosome parent2, Random random) {
+        // Buat kromosom baru, lalu isi dengan crossover word-level
+        Chromosome child1 = new Chromosome(parent1.getWidth(), parent1.getHeight(), new boolean[0]);
+        Chromosome child2 = new Chromosome(parent1.getWidth(), parent1.getHeight(), new boolean[0]);
+        crossoverInto(parent1, parent2, child1, child2, random);
+        
+        return new Chromosome[]{child1, child2};
+    }
+    
+    //Single point crossover langsung ke child yang sudah ada (tanpa alokasi)
+    @Override
+    public void crossoverInto(Chromosome parent1, Chromosome parent2,
+                              Chromosome child1, Chromosome child2, Random random) {
         int length = parent1.getLength();
         
         // Pilih titik potong secara acak (antara 1 dan length-1)
         int crossoverPoint = random.nextInt(length - 1) + 1;
         
-        // Buat gen untuk child1 dan child2
-        boolean[] genes1 = new boolean[length];
-        boolean[] genes2 = new boolean[length];
-        
         // Child1: parent1 sebelum titik, parent2 setelah titik
-        for (int i = 0; i < crossoverPoint; i++) {
-            genes1[i] = parent1.getGene(i);
-            genes2[i] = parent2.getGene(i);
-        }
-        
         // Child2: parent2 sebelum titik, parent1 setelah titik
-        for (int i = crossoverPoint; i < length; i++) {
-            genes1[i] = parent2.getGene(i);
-            genes2[i] = parent1.getGene(i);
-        }
-        
-        // Buat kromosom baru
-        Chromosome child1 = new Chromosome(parent1.getWidth(), parent1.getHeight(), genes1);
-        Chromosome child2 = new Chromosome(parent1.getWidth(), parent1.getHeight(), genes2);
-        
-        return new Chromosome[]{child1, child2};
+        // Disalin per word: word utuh sekaligus, word di titik potong memakai mask
+        child1.copySegment(parent1, parent2, crossoverPoint, length);
+        child2.copySegment(parent2, parent1, crossoverPoint, length);
     }
 }
-
@@ -0,0 +1,12 @@
+/**
+ * Engine penyelesai puzzle mosaic.
+ * Input sama dengan GA (Puzzle) dan hasil berupa Chromosome sehingga bisa langsung
+ * dievaluasi dengan FitnessFunction dan dicetak seperti hasil GA.
+ */
+public interface SolverStrategy {
+    //Menyelesaikan puzzle; mengembalikan solusi, atau null jika tidak ada solusi / batas tercapai
+    Chromosome solve(Puzzle puzzle);
+    
+    //Nama engine untuk laporan
+    String getName();
+}
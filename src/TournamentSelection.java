@@ -0,0 +1,75 @@
+import java.util.Random;
+
+/**
+ * Kelas TournamentSelection - Implementasi Tournament Selection
+ * 
+ * Cara kerja:
+ * 1. Pilih k individu secara acak dari populasi
+ * 2. Pilih yang terbaik (fitness terkecil) dari kandidat tersebut
+ * 
+ * Setiap seleksi O(k) tanpa alokasi: tidak ada array kandidat, tidak ada scan populasi,
+ * dan hanya kandidat yang fitness-nya belum dihitung yang dievaluasi. Berbeda dengan
+ * roulette wheel, tidak ada distribusi per generasi yang perlu disiapkan, sehingga
+ * biayanya tidak bergantung ukuran populasi.
+ * 
+ * Parameter: tournamentSize (ukuran turnamen, default = 3)
+ * 
+ * @author Kelompok 14
+ */
+public class TournamentSelection implements SelectionStrategy {
+    //Ukuran turnamen (jumlah kandidat yang dipilih)
+    private final int tournamentSize;
+    
+    //Konstruktor dengan ukuran turnamen default = 3
+    public TournamentSelection() {
+        this(3);
+    }
+    
+    //Konstruktor dengan ukuran turnamen yang dapat disesuaikan
+    public TournamentSelection(int tournamentSize) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("tournamentSize must be >= 1");
+        }
+        this.tournamentSize = tournamentSize;
+    }
+    
+    public int getTournamentSize() {
+        return tournamentSize;
+    }
+    
+    //Memilih index parent: k kandidat acak (dengan pengembalian), fitness terkecil menang,
+    //fitness sama dimenangkan kandidat yang terambil lebih dulu
+    public int selectIndex(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        int n = population.length;
+        int winner = random.nextInt(n);
+        double winnerFitness = fitnessOf(population[winner], fitnessFunction);
+        for (int i = 1; i < tournamentSize; i++) {
+            int candidate = random.nextInt(n);
+            double fitness = fitnessOf(population[candidate], fitnessFunction);
+            if (fitness < winnerFitness) {
+                winner = candidate;
+                winnerFitness = fitness;
+            }
+        }
+        return winner;
+    }
+    
+    //Memilih parent menggunakan Tournament Selection
+    @Override
+    public Chromosome select(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        return population[selectIndex(population, fitnessFunction, random)].clone();
+    }
+    
+    //Memilih parent tanpa clone (dipakai engine dalam mode arena)
+    @Override
+    public Chromosome selectReference(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        return population[selectIndex(population, fitnessFunction, random)];
+    }
+    
+    //Fitness kandidat, dihitung hanya jika belum
+    private static double fitnessOf(Chromosome chromosome, FitnessFunction fitnessFunction) {
+        return chromosome.isFitnessCalculated()
+            ? chromosome.getFitness()
+            : fitnessFunction.calculateFitness(chromosome);
+    }
+}
@@ -0,0 +1,111 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Truncation Selection: parent dipilih uniform dari fraksi terbaik populasi.
+ *
+ * Himpunan individu terbaik dihitung sekali per generasi (saat prepare() dipanggil atau
+ * saat select() menerima array populasi yang berbeda):
+ * - fitness disalin ke double[] dan diurutkan (sort primitif, tanpa boxing) untuk
+ *   mencari fitness ambang individu ke-m
+ * - index dengan fitness di bawah ambang diambil, lalu yang sama dengan ambang
+ *   (urutan index) sampai m individu
+ * Setelah itu setiap seleksi O(1) tanpa alokasi: satu nextInt(m).
+ *
+ * Buffer dipakai ulang antar generasi dan hanya dialokasikan ulang jika ukuran populasi berubah.
+ */
+public class TruncationSelection implements SelectionStrategy {
+    //Fraksi populasi terbaik yang boleh menjadi parent
+    private final double fraction;
+
+    //Populasi yang himpunan terbaiknya sedang di-cache
+    private Chromosome[] preparedPopulation;
+
+    //Buffer fitness terurut (untuk mencari ambang)
+    private double[] sortedFitness;
+
+    //Index individu terpilih di array populasi, selected[0..selectedCount)
+    private int[] selected;
+    private int selectedCount;
+
+    //Constructor dengan fraksi default (separuh populasi terbaik)
+    public TruncationSelection() {
+        this(0.5);
+    }
+
+    //Constructor dengan fraksi tertentu (0 < fraction <= 1)
+    public TruncationSelection(double fraction) {
+        if (!(fraction > 0.0 && fraction <= 1.0)) {
+            throw new IllegalArgumentException("fraction must be in (0, 1]");
+        }
+        this.fraction = fraction;
+    }
+
+    public double getFraction() {
+        return fraction;
+    }
+
+    //Membuang himpunan yang di-cache (misalnya setelah populasi diubah di tempat)
+    public void invalidate() {
+        preparedPopulation = null;
+    }
+
+    //Menghitung himpunan individu terbaik untuk populasi ini
+    @Override
+    public void prepare(Chromosome[] population, FitnessFunction fitnessFunction) {
+        int n = population.length;
+        if (sortedFitness == null || sortedFitness.length != n) {
+            sortedFitness = new double[n];
+            selected = new int[n];
+        }
+
+        // Hitung fitness untuk semua kromosom yang belum dihitung
+        for (int i = 0; i < n; i++) {
+            Chromosome chromosome = population[i];
+            if (!chromosome.isFitnessCalculated()) {
+                fitnessFunction.calculateFitness(chromosome);
+            }
+            sortedFitness[i] = chromosome.getFitness();
+        }
+
+        int m = Math.max(1, Math.min(n, (int) Math.ceil(fraction * n)));
+        Arrays.sort(sortedFitness, 0, n);
+        double threshold = sortedFitness[m - 1];
+
+        // Fitness di bawah ambang selalu masuk, fitness sama dengan ambang mengisi sisanya
+        int below = 0;
+        for (int i = 0; i < n; i++) {
+            if (Double.compare(population[i].getFitness(), threshold) < 0) {
+                selected[below++] = i;
+            }
+        }
+        int count = below;
+        for (int i = 0; i < n && count < m; i++) {
+            if (Double.compare(population[i].getFitness(), threshold) == 0) {
+                selected[count++] = i;
+            }
+        }
+        selectedCount = count;
+        preparedPopulation = population;
+    }
+
+    //Memilih index parent secara uniform dari himpunan terbaik
+    public int selectIndex(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        if (population != preparedPopulation) {
+            prepare(population, fitnessFunction);
+        }
+        return selected[random.nextInt(selectedCount)];
+    }
+
+    //Memilih parent menggunakan Truncation Selection
+    @Override
+    public Chromosome select(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        return population[selectIndex(population, fitnessFunction, random)].clone();
+    }
+
+    //Memilih parent tanpa clone (dipakai engine dalam mode arena)
+    @Override
+    public Chromosome selectReference(Chromosome[] population, FitnessFunction fitnessFunction, Random random) {
+        return population[selectIndex(population, fitnessFunction, random)];
+    }
+}